@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+
+# Measures the time from launching the service jar to its first successful callback, with and without the class
+# data sharing archive produced by ./gradlew cdsArchive. Without SERVICE_AUTHORIZATION and AUTHORIZATION tokens for
+# the local stubs the readiness probe is used instead of a callback.
+#
+# Usage: bin/startup-benchmark.sh [runs]
+
+set -eu
+
+dir=$(dirname ${0})
+root_dir=$(realpath ${dir}/..)
+
+runs=${1:-5}
+jar=${root_dir}/build/cds/app/application.jar
+archive=${root_dir}/build/cds/service.jsa
+base_url=http://localhost:4000
+
+function now_millis() {
+  date +%s%3N
+}
+
+function first_success() {
+  if [ -n "${SERVICE_AUTHORIZATION:-}" ] && [ -n "${AUTHORIZATION:-}" ]; then
+    curl --fail --silent --output /dev/null -X POST ${base_url}/callback/enter-children/about-to-start \
+      -H "Content-Type: application/json" \
+      -H "ServiceAuthorization: ${SERVICE_AUTHORIZATION}" \
+      -H "Authorization: ${AUTHORIZATION}" \
+      -d '{"case_details": {"id": 1, "state": "Open", "case_data": {}}}'
+  else
+    curl --fail --silent --output /dev/null ${base_url}/health/readiness
+  fi
+}
+
+function measure() {
+  local label=${1}
+  shift
+
+  for run in $(seq 1 ${runs}); do
+    local start=$(now_millis)
+
+    java "$@" -jar ${jar} --spring.profiles.active=local > /dev/null 2>&1 &
+    local pid=$!
+
+    until first_success; do
+      if ! kill -0 ${pid} 2> /dev/null; then
+        echo "${label} run ${run}: service exited before its first successful response"
+        wait ${pid} || true
+        exit 1
+      fi
+      sleep 0.1
+    done
+
+    echo "${label} run ${run}: $(($(now_millis) - start)) ms"
+
+    kill ${pid}
+    wait ${pid} || true
+  done
+}
+
+if [ ! -f ${archive} ]; then
+  echo "Missing ${archive}, run ./gradlew cdsArchive first"
+  exit 1
+fi
+
+measure "without archive" -Xshare:auto
+measure "with archive" -XX:SharedArchiveFile=${archive} -Xshare:on
@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.fpl.service.ChildrenService;
 import uk.gov.hmcts.reform.fpl.service.HearingVenueLookUpService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.DocumentMerger;
+import uk.gov.hmcts.reform.fpl.utils.InlineParallelTaskConfiguration;
 import uk.gov.hmcts.reform.fpl.utils.captor.ResultsCaptor;
 
 import java.io.File;
@@ -23,7 +24,7 @@ import java.io.IOException;
 
 @ActiveProfiles({"integration-test", "docmosis-template-test"})
 @OverrideAutoConfiguration(enabled = true)
-@Import(AbstractDocmosisTest.TestConfiguration.class)
+@Import({AbstractDocmosisTest.TestConfiguration.class, InlineParallelTaskConfiguration.class})
 @SpringBootTest(classes = {
     ObjectMapper.class,
     ChildrenService.class,
@@ -0,0 +1,129 @@
+package uk.gov.hmcts.reform.fpl.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.OverrideAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.Child;
+import uk.gov.hmcts.reform.fpl.model.ChildParty;
+import uk.gov.hmcts.reform.fpl.model.Judge;
+import uk.gov.hmcts.reform.fpl.model.common.JudgeAndLegalAdvisor;
+import uk.gov.hmcts.reform.fpl.model.event.ManageOrdersEventData;
+import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+import uk.gov.hmcts.reform.fpl.service.UploadDocumentService;
+import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisDocumentGeneratorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.Constants.LOCAL_AUTHORITY_1_CODE;
+import static uk.gov.hmcts.reform.fpl.enums.JudgeOrMagistrateTitle.HIS_HONOUR_JUDGE;
+import static uk.gov.hmcts.reform.fpl.enums.State.CLOSED;
+import static uk.gov.hmcts.reform.fpl.model.order.Order.C21_BLANK_ORDER;
+import static uk.gov.hmcts.reform.fpl.model.order.Order.C32A_CARE_ORDER;
+import static uk.gov.hmcts.reform.fpl.model.order.OrderOperation.CREATE;
+import static uk.gov.hmcts.reform.fpl.utils.ElementUtils.wrapElements;
+import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocmosisDocument;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocument;
+
+@WebMvcTest(ManageOrdersController.class)
+@OverrideAutoConfiguration(enabled = true)
+class ManageOrdersCaseConversionTest extends AbstractCallbackTest {
+
+    private static final Child CHILD = Child.builder()
+        .party(ChildParty.builder().firstName("first").lastName("last").build())
+        .build();
+
+    @SpyBean
+    private CaseConverter caseConverter;
+
+    @MockBean
+    private DocmosisDocumentGeneratorService docmosisGenerationService;
+
+    @MockBean
+    private UploadDocumentService uploadService;
+
+    ManageOrdersCaseConversionTest() {
+        super("manage-orders");
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(docmosisGenerationService.generateDocmosisDocument(any(), any(), any(), any()))
+            .thenReturn(testDocmosisDocument(readBytes("documents/document1.pdf")));
+        when(uploadService.uploadDocument(any(), any(), any())).thenReturn(testDocument());
+
+        clearInvocations(caseConverter);
+    }
+
+    @Test
+    void shouldConvertCaseDataOnceForInitialSelection() {
+        CaseData caseData = caseData().toBuilder()
+            .state(CLOSED)
+            .manageOrdersEventData(ManageOrdersEventData.builder()
+                .manageOrdersOperationClosedState(CREATE)
+                .build())
+            .build();
+
+        postMidEvent(caseData, "initial-selection");
+
+        verifyConvertedOnce();
+    }
+
+    @Test
+    void shouldConvertCaseDataOnceForOrderSelection() {
+        postMidEvent(caseData(), "order-selection");
+
+        verifyConvertedOnce();
+    }
+
+    @Test
+    void shouldConvertCaseDataOnceForSectionMidEvent() {
+        postMidEvent(caseData(), "issuing-details");
+
+        verifyConvertedOnce();
+    }
+
+    @Test
+    void shouldConvertCaseDataOnceForAboutToSubmit() {
+        CaseData caseData = caseData().toBuilder()
+            .manageOrdersEventData(ManageOrdersEventData.builder()
+                .manageOrdersType(C21_BLANK_ORDER)
+                .manageOrdersApprovalDate(dateNow())
+                .manageOrdersFurtherDirections("Some further directions")
+                .build())
+            .build();
+
+        assertThat(extractCaseData(postAboutToSubmitEvent(caseData)).getOrderCollection()).hasSize(1);
+
+        verifyConvertedOnce();
+    }
+
+    private void verifyConvertedOnce() {
+        verify(caseConverter, times(1)).convert(any(CaseDetails.class));
+    }
+
+    private CaseData caseData() {
+        return CaseData.builder()
+            .id(1234123412341234L)
+            .caseLocalAuthority(LOCAL_AUTHORITY_1_CODE)
+            .familyManCaseNumber("CASE_NUMBER")
+            .children1(wrapElements(CHILD))
+            .orderAppliesToAllChildren("Yes")
+            .judgeAndLegalAdvisor(JudgeAndLegalAdvisor.builder().useAllocatedJudge("Yes").build())
+            .allocatedJudge(Judge.builder().judgeLastName("Dredd").judgeTitle(HIS_HONOUR_JUDGE).build())
+            .manageOrdersEventData(ManageOrdersEventData.builder()
+                .manageOrdersType(C32A_CARE_ORDER)
+                .manageOrdersApprovalDate(dateNow())
+                .build())
+            .build();
+    }
+}
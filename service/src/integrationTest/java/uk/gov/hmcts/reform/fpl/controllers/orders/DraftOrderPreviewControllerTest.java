@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.fpl.controllers.orders;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.OverrideAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreview;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreviewStore;
+
+import java.util.Optional;
+
+import static org.apache.http.HttpStatus.SC_FORBIDDEN;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.feignException;
+
+@ActiveProfiles("integration-test")
+@WebMvcTest(DraftOrderPreviewController.class)
+@OverrideAutoConfiguration(enabled = true)
+class DraftOrderPreviewControllerTest {
+
+    private static final String TOKEN = "c9b1a2d0-4a3e-4a8e-9f53-1c7a5e0f7f2b";
+    private static final Long CASE_ID = 12345L;
+    private static final byte[] CONTENT = {1, 2, 3};
+    private static final DraftOrderPreview PREVIEW = new DraftOrderPreview(CASE_ID, CONTENT, APPLICATION_PDF_VALUE,
+        "Preview order.pdf");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DraftOrderPreviewStore previewStore;
+
+    @MockBean
+    private CoreCaseDataService coreCaseDataService;
+
+    @Test
+    void shouldServePreviewToUserWithAccessToCase() throws Exception {
+        when(previewStore.get(TOKEN)).thenReturn(Optional.of(PREVIEW));
+        when(coreCaseDataService.findCaseDetailsById(CASE_ID.toString()))
+            .thenReturn(CaseDetails.builder().id(CASE_ID).build());
+
+        mockMvc.perform(get("/order-previews/" + TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APPLICATION_PDF_VALUE))
+            .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void shouldNotFindUnknownOrExpiredPreview() throws Exception {
+        when(previewStore.get(TOKEN)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/order-previews/" + TOKEN))
+            .andExpect(status().is(SC_NOT_FOUND));
+
+        verifyNoInteractions(coreCaseDataService);
+    }
+
+    @Test
+    void shouldRefusePreviewToUserWithoutAccessToCase() throws Exception {
+        when(previewStore.get(TOKEN)).thenReturn(Optional.of(PREVIEW));
+        when(coreCaseDataService.findCaseDetailsById(CASE_ID.toString())).thenThrow(feignException(SC_NOT_FOUND));
+
+        mockMvc.perform(get("/order-previews/" + TOKEN))
+            .andExpect(status().is(SC_FORBIDDEN));
+    }
+
+    @Test
+    void shouldRefusePreviewWhenCaseAccessForbidden() throws Exception {
+        when(previewStore.get(TOKEN)).thenReturn(Optional.of(PREVIEW));
+        when(coreCaseDataService.findCaseDetailsById(CASE_ID.toString())).thenThrow(feignException(SC_FORBIDDEN));
+
+        mockMvc.perform(get("/order-previews/" + TOKEN))
+            .andExpect(status().is(SC_FORBIDDEN));
+    }
+}
@@ -236,8 +236,8 @@ class MigrateCaseControllerTest extends AbstractCallbackTest {
                 .event(Event.SELECT_COURT)
                 .build());
 
-            when(taskListService.getTasksForOpenCase(any())).thenReturn(tasks);
-            when(caseSubmissionChecker.validateAsGroups(any())).thenReturn(tasksErrors);
+            when(taskListService.getTasksForOpenCase(any(), any())).thenReturn(tasks);
+            when(caseSubmissionChecker.validateAsGroups(any(), any())).thenReturn(tasksErrors);
             when(taskListRenderer.render(tasks, tasksErrors)).thenReturn(expectedTaskList);
         }
 
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import uk.gov.hmcts.reform.fpl.config.CtscEmailLookupConfiguration;
 import uk.gov.hmcts.reform.fpl.config.LocalAuthorityEmailLookupConfiguration;
+import uk.gov.hmcts.reform.fpl.config.ReferenceDataRegistry;
 import uk.gov.hmcts.reform.fpl.events.FailedPBAPaymentEvent;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.OrderApplicant;
@@ -26,6 +27,7 @@ import static uk.gov.hmcts.reform.fpl.testingsupport.email.SendEmailResponseAsse
 @SpringBootTest(classes = {
     FailedPBAPaymentEventHandler.class,
     LocalAuthorityEmailLookupConfiguration.class,
+    ReferenceDataRegistry.class,
     NotificationService.class,
     CtscEmailLookupConfiguration.class,
     FailedPBAPaymentContentProvider.class,
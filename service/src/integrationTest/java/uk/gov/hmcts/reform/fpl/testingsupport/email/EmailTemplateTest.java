@@ -18,8 +18,10 @@ import uk.gov.hmcts.reform.fpl.enums.TabUrlAnchor;
 import uk.gov.hmcts.reform.fpl.service.CourtService;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
 import uk.gov.hmcts.reform.fpl.service.LocalAuthorityRecipientsService;
+import uk.gov.hmcts.reform.fpl.service.email.InMemoryNotificationDeduplicator;
 import uk.gov.hmcts.reform.fpl.service.email.NotificationService;
 import uk.gov.hmcts.reform.fpl.service.email.RepresentativesInbox;
+import uk.gov.hmcts.reform.fpl.utils.InlineParallelTaskConfiguration;
 import uk.gov.hmcts.reform.fpl.utils.captor.ResultsCaptor;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
@@ -41,7 +43,11 @@ import static uk.gov.hmcts.reform.fpl.handlers.NotificationEventHandlerTestData.
 @SpringBootTest(classes = {ObjectMapper.class, NotificationService.class})
 @ActiveProfiles({"integration-test", "email-template-test"})
 @OverrideAutoConfiguration(enabled = true)
-@Import(EmailTemplateTest.TestConfiguration.class)
+@Import({
+    EmailTemplateTest.TestConfiguration.class,
+    InlineParallelTaskConfiguration.class,
+    InMemoryNotificationDeduplicator.class
+})
 public class EmailTemplateTest {
 
     protected static final String CAFCASS_NAME = "cafcass";
@@ -0,0 +1,150 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Stopwatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
+import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+import uk.gov.hmcts.reform.fpl.service.TaskListRenderer;
+import uk.gov.hmcts.reform.fpl.service.TaskListService;
+import uk.gov.hmcts.reform.fpl.service.summary.CaseSummaryService;
+import uk.gov.hmcts.reform.fpl.service.validators.CaseSubmissionChecker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Exercises the code paths of the busiest callbacks on synthetic cases before the service reports ready, so that
+ * Jackson serialisers, Feign client proxies and the JIT are warmed up rather than on the first callbacks after a
+ * deployment. Application runners complete before the readiness state changes to accepting traffic. The service
+ * reports ready regardless once the time budget is spent.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "warmUp.application.enabled", matchIfMissing = true)
+public class ApplicationWarmUp implements ApplicationRunner {
+
+    private static final SimpleRequestData WARM_UP_REQUEST = new SimpleRequestData(null, "warm-up", emptySet());
+
+    private final ApplicationContext context;
+    private final ObjectMapper mapper;
+    private final CaseConverter caseConverter;
+    private final TaskListService taskListService;
+    private final TaskListRenderer taskListRenderer;
+    private final CaseSubmissionChecker caseSubmissionChecker;
+    private final CaseSummaryService caseSummaryService;
+    private final Resource[] cases;
+    private final int iterations;
+    private final Duration budget;
+
+    @Autowired
+    @SuppressWarnings("java:S107")
+    public ApplicationWarmUp(ApplicationContext context,
+                             ObjectMapper mapper,
+                             CaseConverter caseConverter,
+                             TaskListService taskListService,
+                             TaskListRenderer taskListRenderer,
+                             CaseSubmissionChecker caseSubmissionChecker,
+                             CaseSummaryService caseSummaryService,
+                             @Value("${warmUp.application.cases:classpath:warm-up/*.json}") Resource[] cases,
+                             @Value("${warmUp.application.iterations:50}") int iterations,
+                             @Value("${warmUp.application.budgetSeconds:60}") long budgetSeconds) {
+        this.context = context;
+        this.mapper = mapper;
+        this.caseConverter = caseConverter;
+        this.taskListService = taskListService;
+        this.taskListRenderer = taskListRenderer;
+        this.caseSubmissionChecker = caseSubmissionChecker;
+        this.caseSummaryService = caseSummaryService;
+        this.cases = cases;
+        this.iterations = iterations;
+        this.budget = Duration.ofSeconds(budgetSeconds);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "warm-up"));
+
+        try {
+            Future<?> warmUp = executor.submit(this::warmUp);
+            try {
+                warmUp.get(budget.toMillis(), MILLISECONDS);
+                log.info("Application warmed up in {} ms", stopwatch.elapsed(MILLISECONDS));
+            } catch (TimeoutException e) {
+                warmUp.cancel(true);
+                log.warn("Application warm-up did not complete within {} s", budget.toSeconds());
+            } catch (ExecutionException e) {
+                log.warn("Application warm-up failed after {} ms", stopwatch.elapsed(MILLISECONDS), e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void warmUp() {
+        RequestDataCache.add(WARM_UP_REQUEST);
+        try {
+            touchFeignClients();
+
+            List<CaseDetails> caseDetails = readCases();
+            for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+                caseDetails.forEach(this::exercise);
+            }
+        } finally {
+            RequestDataCache.remove();
+        }
+    }
+
+    private void touchFeignClients() {
+        // creates the client proxies without sending requests, feign handles toString itself
+        context.getBeansWithAnnotation(FeignClient.class).values().forEach(Object::toString);
+    }
+
+    private List<CaseDetails> readCases() {
+        List<CaseDetails> caseDetails = new ArrayList<>(cases.length);
+        for (Resource resource : cases) {
+            try (InputStream content = resource.getInputStream()) {
+                caseDetails.add(mapper.readValue(content, CaseDetails.class));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read warm-up case " + resource.getFilename(), e);
+            }
+        }
+        return caseDetails;
+    }
+
+    private void exercise(CaseDetails caseDetails) {
+        CaseData caseData = caseConverter.convert(caseDetails);
+
+        caseConverter.toMap(caseData);
+        taskListRenderer.render(taskListService.getTasksForOpenCase(caseData),
+            caseSubmissionChecker.validateAsGroups(caseData));
+        caseSummaryService.generateSummaryFields(caseData);
+    }
+}
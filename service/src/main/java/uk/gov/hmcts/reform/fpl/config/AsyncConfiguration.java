@@ -4,12 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import uk.gov.hmcts.reform.fpl.request.FeatureToggleSnapshot;
 import uk.gov.hmcts.reform.fpl.request.RequestData;
 import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
 import uk.gov.hmcts.reform.fpl.request.SimpleRequestData;
@@ -23,6 +25,10 @@ import javax.annotation.Nonnull;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    public static final String PARALLEL_TASK_EXECUTOR = "parallelTaskExecutor";
+    public static final String PARALLEL_TASK_OVERFLOW_EXECUTOR = "parallelTaskOverflowExecutor";
+    public static final String VALIDATION_EXECUTOR = "validationExecutor";
+
     private final ApplicationContext context;
 
     @Override
@@ -46,6 +52,61 @@ public class AsyncConfiguration implements AsyncConfigurer {
         return taskExecutor;
     }
 
+    /**
+     * Pool shared by tasks fanned out within a single request, see
+     * {@link uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner}. It has no queue, a task submitted when every
+     * thread is busy is rejected so that the caller can run it itself rather than wait behind other requests.
+     */
+    @Bean(PARALLEL_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor parallelTaskExecutor(@Value("${parallelTasks.poolSize:16}") int poolSize) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(0);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setThreadNamePrefix("parallel-task-");
+        taskExecutor.setTaskDecorator(new AsyncTaskDecorator(context));
+        return taskExecutor;
+    }
+
+    /**
+     * Takes the tasks with a timeout that the parallel task pool rejected. Running them on the caller would
+     * escape their timeout, here they wait in a bounded queue and still fail once their timeout expires.
+     */
+    @Bean(PARALLEL_TASK_OVERFLOW_EXECUTOR)
+    public ThreadPoolTaskExecutor parallelTaskOverflowExecutor(
+        @Value("${parallelTasks.overflow.poolSize:8}") int poolSize,
+        @Value("${parallelTasks.overflow.queueCapacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setThreadNamePrefix("parallel-task-overflow-");
+        taskExecutor.setTaskDecorator(new AsyncTaskDecorator(context));
+        return taskExecutor;
+    }
+
+    /**
+     * Pool of the case submission validation, which is CPU bound, so by default it has a thread per processor and
+     * does not compete with the I/O bound tasks of the parallel task pool. It has no queue either, events that find
+     * every thread busy are validated by the caller.
+     */
+    @Bean(VALIDATION_EXECUTOR)
+    public ThreadPoolTaskExecutor validationExecutor(
+        @Value("${caseSubmission.parallelValidation.poolSize:0}") int poolSize) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(threads);
+        taskExecutor.setMaxPoolSize(threads);
+        taskExecutor.setQueueCapacity(0);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setThreadNamePrefix("validation-");
+        taskExecutor.setTaskDecorator(new AsyncTaskDecorator(context));
+        return taskExecutor;
+    }
+
     static class AsyncTaskDecorator implements TaskDecorator {
 
         final ApplicationContext context;
@@ -57,12 +118,15 @@ public class AsyncConfiguration implements AsyncConfigurer {
         @Override
         public Runnable decorate(@Nonnull Runnable task) {
             SimpleRequestData requestData = new SimpleRequestData(context.getBean(RequestData.class));
+            FeatureToggleSnapshot snapshot = FeatureToggleSnapshot.get().orElseGet(FeatureToggleSnapshot::new);
 
             return () -> {
                 RequestDataCache.add(requestData);
+                FeatureToggleSnapshot.attach(snapshot);
                 try {
                     task.run();
                 } finally {
+                    FeatureToggleSnapshot.detach();
                     RequestDataCache.remove();
                 }
             };
@@ -1,33 +1,29 @@
 package uk.gov.hmcts.reform.fpl.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
-import uk.gov.hmcts.reform.fpl.config.utils.LookupConfigParser;
-
-import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.base.Strings.emptyToNull;
 
 @Configuration
 public class CafcassLookupConfiguration {
 
-    private final Map<String, Cafcass> mapping;
+    private final ReferenceDataRegistry referenceData;
+
+    @Autowired
+    public CafcassLookupConfiguration(ReferenceDataRegistry referenceData) {
+        this.referenceData = referenceData;
+    }
 
-    public CafcassLookupConfiguration(@Value("${fpl.local_authority_code_to_cafcass.mapping}") String config) {
-        this.mapping = LookupConfigParser.parse(config, value -> {
-            String[] entrySplit = value.split(":", 2);
-            return new Cafcass(
-                checkNotNull(emptyToNull(entrySplit[0]), "Cafcass name cannot be empty"),
-                checkNotNull(emptyToNull(entrySplit[1]), "Cafcass email cannot be empty")
-            );
-        });
+    public CafcassLookupConfiguration(String config) {
+        this(ReferenceDataRegistry.builder().cafcass(config).build());
     }
 
     public Cafcass getCafcass(String localAuthorityCode) {
         checkNotNull(localAuthorityCode, "Local authority code cannot be null");
 
-        return checkNotNull(mapping.get(localAuthorityCode), "Local authority '" + localAuthorityCode + "' not found");
+        return checkNotNull(referenceData.getCafcass(localAuthorityCode).orElse(null),
+            "Local authority '" + localAuthorityCode + "' not found");
     }
 
     public static class Cafcass {
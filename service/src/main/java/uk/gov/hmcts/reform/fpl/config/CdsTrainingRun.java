@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stops the service as soon as it is ready when it is started by the cdsClassList task of the build, which records
+ * the classes loaded during startup and warm-up for the class data sharing archive.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("cds.trainingRun")
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class CdsTrainingRun {
+
+    private final ConfigurableApplicationContext context;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void stop() {
+        log.info("Class data sharing training run complete, stopping");
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.gov.hmcts.reform.fpl.request.FeatureToggleSnapshot;
+
+import javax.annotation.Nonnull;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Configuration
+public class FeatureToggleSnapshotInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public boolean preHandle(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                             @Nonnull Object handler) {
+        FeatureToggleSnapshot.open();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+                                @Nonnull Object handler, Exception ex) {
+        FeatureToggleSnapshot.close();
+    }
+}
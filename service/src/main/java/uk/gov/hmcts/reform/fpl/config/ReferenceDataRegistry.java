@@ -0,0 +1,286 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import com.google.common.collect.ImmutableListMultimap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.fpl.config.CafcassLookupConfiguration.Cafcass;
+import uk.gov.hmcts.reform.fpl.config.utils.LookupConfigParser;
+import uk.gov.hmcts.reform.fpl.model.Court;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Strings.emptyToNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.StringUtils.lowerCase;
+
+/**
+ * Local authority, court, Cafcass and external solicitor reference data parsed from the lookup mappings, with
+ * forward and reverse indexes so that lookups in either direction are hash lookups.
+ * The data is held in an immutable snapshot which can be atomically replaced when the mappings change.
+ * The individual lookup configurations delegate to this registry.
+ */
+@Slf4j
+@Configuration
+public class ReferenceDataRegistry {
+
+    private final AtomicReference<Snapshot> snapshot;
+
+    @Autowired
+    public ReferenceDataRegistry(
+        @Value("${fpl.local_authority_code_to_name.mapping}") String localAuthorityNames,
+        @Value("${fpl.local_authority_email_to_code.mapping}") String localAuthorityCodes,
+        @Value("${fpl.local_authority_code_to_shared_inbox.mapping}") String localAuthoritySharedInboxes,
+        @Value("${fpl.local_authority_code_to_org_id.mapping:}") String localAuthorityIds,
+        @Value("${fpl.local_authority_user.mapping}") String localAuthorityUsers,
+        @Value("${fpl.local_authority_code_to_hmcts_court.mapping}") String courts,
+        @Value("${fpl.local_authority_code_to_cafcass.mapping}") String cafcass,
+        @Value("${fpl.eps_to_local_authorities.mapping:}") String epsLocalAuthorities,
+        @Value("${fpl.mla_to_local_authorities.mapping:}") String mlaLocalAuthorities) {
+        this(builder()
+            .localAuthorityNames(localAuthorityNames)
+            .localAuthorityCodes(localAuthorityCodes)
+            .localAuthoritySharedInboxes(localAuthoritySharedInboxes)
+            .localAuthorityIds(localAuthorityIds)
+            .localAuthorityUsers(localAuthorityUsers)
+            .courts(courts)
+            .cafcass(cafcass)
+            .epsLocalAuthorities(epsLocalAuthorities)
+            .mlaLocalAuthorities(mlaLocalAuthorities));
+    }
+
+    private ReferenceDataRegistry(Builder builder) {
+        this.snapshot = new AtomicReference<>(new Snapshot(builder));
+    }
+
+    /**
+     * Atomically replaces all reference data. The mappings are parsed and validated by the builder beforehand, so
+     * an invalid mapping never replaces the current data.
+     */
+    public void reload(Builder builder) {
+        snapshot.set(new Snapshot(builder));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Optional<String> getLocalAuthorityName(String localAuthorityCode) {
+        return Optional.ofNullable(snapshot.get().localAuthorityNames.get(localAuthorityCode));
+    }
+
+    public Map<String, String> getLocalAuthorityNames() {
+        return snapshot.get().localAuthorityNames;
+    }
+
+    public Optional<String> getLocalAuthorityCodeByEmailDomain(String emailDomain) {
+        return Optional.ofNullable(snapshot.get().localAuthorityCodesByEmailDomain.get(emailDomain));
+    }
+
+    public Optional<String> getLocalAuthoritySharedInbox(String localAuthorityCode) {
+        return Optional.ofNullable(snapshot.get().localAuthoritySharedInboxes.get(localAuthorityCode));
+    }
+
+    public Optional<String> getLocalAuthorityId(String localAuthorityCode) {
+        return Optional.ofNullable(snapshot.get().localAuthorityIds.get(localAuthorityCode));
+    }
+
+    public List<String> getLocalAuthorityCodesByOrgId(String organisationId) {
+        if (organisationId == null) {
+            return List.of();
+        }
+        return snapshot.get().localAuthorityCodesByOrgId.get(lowerCase(organisationId));
+    }
+
+    public Optional<List<String>> getLocalAuthorityUsers(String localAuthorityCode) {
+        return Optional.ofNullable(snapshot.get().localAuthorityUsers.get(localAuthorityCode));
+    }
+
+    public Optional<List<Court>> getCourts(String localAuthorityCode) {
+        return Optional.ofNullable(snapshot.get().courts.get(localAuthorityCode));
+    }
+
+    public Optional<Court> getCourtByCode(String courtCode) {
+        Snapshot current = snapshot.get();
+        return Optional.ofNullable(courtCode).map(current.courtsByCode::get);
+    }
+
+    public Optional<Court> getCourtByEmail(String courtEmail) {
+        Snapshot current = snapshot.get();
+        return Optional.ofNullable(courtEmail).map(email -> current.courtsByEmail.get(lowerCase(email)));
+    }
+
+    public Optional<Cafcass> getCafcass(String localAuthorityCode) {
+        return Optional.ofNullable(snapshot.get().cafcass.get(localAuthorityCode));
+    }
+
+    public Optional<List<String>> getEpsLocalAuthorities(String epsOrgId) {
+        Snapshot current = snapshot.get();
+        return Optional.ofNullable(epsOrgId).map(current.epsLocalAuthorities::get);
+    }
+
+    public Optional<List<String>> getMlaLocalAuthorities(String mlaOrgId) {
+        Snapshot current = snapshot.get();
+        return Optional.ofNullable(mlaOrgId).map(current.mlaLocalAuthorities::get);
+    }
+
+    /**
+     * Parses the raw lookup mappings. Each mapping is validated exactly as its lookup configuration used to validate
+     * it, mappings that are not provided are left empty.
+     */
+    public static class Builder {
+        private Map<String, String> localAuthorityNames = emptyMap();
+        private Map<String, String> localAuthorityCodesByEmailDomain = emptyMap();
+        private Map<String, String> localAuthoritySharedInboxes = emptyMap();
+        private Map<String, String> localAuthorityIds = emptyMap();
+        private Map<String, List<String>> localAuthorityUsers = emptyMap();
+        private Map<String, List<Court>> courts = emptyMap();
+        private Map<String, Cafcass> cafcass = emptyMap();
+        private Map<String, List<String>> epsLocalAuthorities = emptyMap();
+        private Map<String, List<String>> mlaLocalAuthorities = emptyMap();
+
+        private Builder() {
+        }
+
+        public Builder localAuthorityNames(String config) {
+            this.localAuthorityNames = LookupConfigParser.parseStringValue(config);
+            return this;
+        }
+
+        public Builder localAuthorityCodes(String config) {
+            this.localAuthorityCodesByEmailDomain = LookupConfigParser.parseStringValue(config);
+            return this;
+        }
+
+        public Builder localAuthoritySharedInboxes(String config) {
+            this.localAuthoritySharedInboxes = LookupConfigParser.parse(config, value ->
+                checkNotNull(emptyToNull(value), "Local Authority name cannot be empty"));
+            return this;
+        }
+
+        public Builder localAuthorityIds(String config) {
+            if (StringUtils.isBlank(config)) {
+                log.warn("Local authority code to organisation id config is missing or empty");
+            } else {
+                this.localAuthorityIds = LookupConfigParser.parseStringValue(config);
+            }
+            return this;
+        }
+
+        public Builder localAuthorityUsers(String config) {
+            this.localAuthorityUsers = LookupConfigParser.parseStringListValue(config);
+            return this;
+        }
+
+        public Builder courts(String config) {
+            this.courts = LookupConfigParser.parseStringListValue(config).entrySet().stream()
+                .collect(toImmutableMap(Map.Entry::getKey, entry -> {
+                    checkNotNull(entry.getValue(), "Court config is null for " + entry.getKey());
+
+                    return entry.getValue().stream()
+                        .map(Builder::parseCourt)
+                        .collect(toList());
+                }));
+            return this;
+        }
+
+        public Builder cafcass(String config) {
+            this.cafcass = LookupConfigParser.parse(config, value -> {
+                String[] entrySplit = value.split(":", 2);
+                return new Cafcass(
+                    checkNotNull(emptyToNull(entrySplit[0]), "Cafcass name cannot be empty"),
+                    checkNotNull(emptyToNull(entrySplit[1]), "Cafcass email cannot be empty")
+                );
+            });
+            return this;
+        }
+
+        public Builder epsLocalAuthorities(String config) {
+            if (StringUtils.isBlank(config)) {
+                log.warn("External professional solicitor to local authorities config is missing or empty");
+            } else {
+                this.epsLocalAuthorities = parseLocalAuthorities(config);
+            }
+            return this;
+        }
+
+        public Builder mlaLocalAuthorities(String config) {
+            if (StringUtils.isBlank(config)) {
+                log.warn("Managing local authority to local authorities config is missing or empty");
+            } else {
+                this.mlaLocalAuthorities = parseLocalAuthorities(config);
+            }
+            return this;
+        }
+
+        public ReferenceDataRegistry build() {
+            return new ReferenceDataRegistry(this);
+        }
+
+        private static Court parseCourt(String value) {
+            String[] entrySplit = value.split(":", 3);
+            return new Court(
+                checkNotNull(emptyToNull(entrySplit[0]), "Court name cannot be empty"),
+                checkNotNull(emptyToNull(entrySplit[1]), "Court email cannot be empty"),
+                checkNotNull(emptyToNull(entrySplit[2]), "Court code cannot be empty")
+            );
+        }
+
+        private static Map<String, List<String>> parseLocalAuthorities(String config) {
+            return LookupConfigParser.parse(config, value -> Stream.of(value.split("\\|"))
+                .map(StringUtils::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(toList()));
+        }
+    }
+
+    private static class Snapshot {
+        private final Map<String, String> localAuthorityNames;
+        private final Map<String, String> localAuthorityCodesByEmailDomain;
+        private final Map<String, String> localAuthoritySharedInboxes;
+        private final Map<String, String> localAuthorityIds;
+        private final ImmutableListMultimap<String, String> localAuthorityCodesByOrgId;
+        private final Map<String, List<String>> localAuthorityUsers;
+        private final Map<String, List<Court>> courts;
+        private final Map<String, Court> courtsByCode;
+        private final Map<String, Court> courtsByEmail;
+        private final Map<String, Cafcass> cafcass;
+        private final Map<String, List<String>> epsLocalAuthorities;
+        private final Map<String, List<String>> mlaLocalAuthorities;
+
+        Snapshot(Builder builder) {
+            this.localAuthorityNames = builder.localAuthorityNames;
+            this.localAuthorityCodesByEmailDomain = builder.localAuthorityCodesByEmailDomain;
+            this.localAuthoritySharedInboxes = builder.localAuthoritySharedInboxes;
+            this.localAuthorityIds = builder.localAuthorityIds;
+            this.localAuthorityUsers = builder.localAuthorityUsers;
+            this.courts = builder.courts;
+            this.cafcass = builder.cafcass;
+            this.epsLocalAuthorities = builder.epsLocalAuthorities;
+            this.mlaLocalAuthorities = builder.mlaLocalAuthorities;
+
+            ImmutableListMultimap.Builder<String, String> codesByOrgId = ImmutableListMultimap.builder();
+            localAuthorityIds.forEach((code, orgId) -> codesByOrgId.put(lowerCase(orgId), code));
+            this.localAuthorityCodesByOrgId = codesByOrgId.build();
+
+            Map<String, Court> byCode = new LinkedHashMap<>();
+            Map<String, Court> byEmail = new LinkedHashMap<>();
+            courts.values().stream().flatMap(List::stream).forEach(court -> {
+                byCode.putIfAbsent(court.getCode(), court);
+                byEmail.putIfAbsent(lowerCase(court.getEmail()), court);
+            });
+            this.courtsByCode = Map.copyOf(byCode);
+            this.courtsByEmail = Map.copyOf(byEmail);
+        }
+    }
+}
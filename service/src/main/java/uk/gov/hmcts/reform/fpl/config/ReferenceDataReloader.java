@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Polls the reference data mappings mounted by the properties volume and, when any of them changes, rebuilds
+ * the {@link ReferenceDataRegistry} snapshot. Mappings are validated before the swap, an invalid change is logged
+ * and the current reference data is kept.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "referenceData.reload.enabled", havingValue = "true")
+public class ReferenceDataReloader {
+
+    private static final Map<String, Mapping> MAPPINGS = new LinkedHashMap<>();
+
+    static {
+        MAPPINGS.put("local-authority-code-to-name-mapping",
+            new Mapping("fpl.local_authority_code_to_name.mapping",
+                ReferenceDataRegistry.Builder::localAuthorityNames));
+        MAPPINGS.put("local-authority-email-to-code-mapping",
+            new Mapping("fpl.local_authority_email_to_code.mapping",
+                ReferenceDataRegistry.Builder::localAuthorityCodes));
+        MAPPINGS.put("local-authority-code-to-shared-inbox-mapping",
+            new Mapping("fpl.local_authority_code_to_shared_inbox.mapping",
+                ReferenceDataRegistry.Builder::localAuthoritySharedInboxes));
+        MAPPINGS.put("local-authority-code-to-org-id-mapping",
+            new Mapping("fpl.local_authority_code_to_org_id.mapping",
+                ReferenceDataRegistry.Builder::localAuthorityIds));
+        MAPPINGS.put("local-authority-user-mapping",
+            new Mapping("fpl.local_authority_user.mapping", ReferenceDataRegistry.Builder::localAuthorityUsers));
+        MAPPINGS.put("local-authority-code-to-hmcts-court-mapping",
+            new Mapping("fpl.local_authority_code_to_hmcts_court.mapping", ReferenceDataRegistry.Builder::courts));
+        MAPPINGS.put("local-authority-code-to-cafcass-mapping",
+            new Mapping("fpl.local_authority_code_to_cafcass.mapping", ReferenceDataRegistry.Builder::cafcass));
+        MAPPINGS.put("eps-to-local-authorities-mapping",
+            new Mapping("fpl.eps_to_local_authorities.mapping",
+                ReferenceDataRegistry.Builder::epsLocalAuthorities));
+        MAPPINGS.put("mla-to-local-authorities-mapping",
+            new Mapping("fpl.mla_to_local_authorities.mapping",
+                ReferenceDataRegistry.Builder::mlaLocalAuthorities));
+    }
+
+    private final ReferenceDataRegistry referenceData;
+    private final Environment environment;
+    private final Path directory;
+    private final long intervalSeconds;
+
+    private ScheduledExecutorService executor;
+    private Map<String, String> lastMappings;
+
+    @Autowired
+    public ReferenceDataReloader(ReferenceDataRegistry referenceData, Environment environment,
+                                 @Value("${referenceData.reload.path}") String directory,
+                                 @Value("${referenceData.reload.intervalSeconds:60}") long intervalSeconds) {
+        this.referenceData = referenceData;
+        this.environment = environment;
+        this.directory = Path.of(directory);
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!Files.isDirectory(directory)) {
+            log.info("Reference data directory {} not found, reference data will not be reloaded", directory);
+            return;
+        }
+
+        lastMappings = readMappings();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reference-data-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::reloadIfChanged, intervalSeconds, intervalSeconds, SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Rebuilds reference data when any mapping differs from the one last seen.
+     *
+     * @return true if reference data has been replaced
+     */
+    public boolean reloadIfChanged() {
+        try {
+            Map<String, String> mappings = readMappings();
+
+            if (mappings.equals(lastMappings)) {
+                return false;
+            }
+
+            lastMappings = mappings;
+
+            ReferenceDataRegistry.Builder builder = ReferenceDataRegistry.builder();
+            MAPPINGS.forEach((file, mapping) -> mapping.setter.accept(builder, mappings.get(file)));
+
+            referenceData.reload(builder);
+            log.info("Reference data reloaded from {}", directory);
+            return true;
+        } catch (Exception e) {
+            log.error("Invalid reference data in {}, keeping current reference data", directory, e);
+            return false;
+        }
+    }
+
+    private Map<String, String> readMappings() {
+        Map<String, String> mappings = new HashMap<>();
+
+        MAPPINGS.forEach((file, mapping) -> {
+            Path path = directory.resolve(file);
+            mappings.put(file, Files.isRegularFile(path) ? read(path) : environment.getProperty(mapping.property));
+        });
+
+        return mappings;
+    }
+
+    private static String read(Path path) {
+        try {
+            return Files.readString(path).trim();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class Mapping {
+        private final String property;
+        private final BiConsumer<ReferenceDataRegistry.Builder, String> setter;
+
+        Mapping(String property, BiConsumer<ReferenceDataRegistry.Builder, String> setter) {
+            this.property = property;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.fpl.config.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+/**
+ * Mail sender that keeps connected SMTP transports between sends instead of opening and authenticating a new
+ * connection for every message. At most poolSize idle transports are kept, any extra ones are closed once used.
+ * Connections opened and reused are counted in email.connections, and every send is timed in email.send.
+ */
+@Slf4j
+public class PooledTransportMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private final BlockingQueue<Transport> idleTransports;
+    private final Counter connectionsOpened;
+    private final Counter connectionsReused;
+    private final Timer sendTimer;
+
+    public PooledTransportMailSender(int poolSize, MeterRegistry meterRegistry) {
+        this.idleTransports = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        this.connectionsOpened = Counter.builder("email.connections")
+            .description("SMTP connections to the mail server")
+            .tag("connection", "opened")
+            .register(meterRegistry);
+        this.connectionsReused = Counter.builder("email.connections")
+            .description("SMTP connections to the mail server")
+            .tag("connection", "reused")
+            .register(meterRegistry);
+        this.sendTimer = Timer.builder("email.send")
+            .description("Time taken to send a batch of emails, including connecting to the mail server")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        sendTimer.record(() -> sendWithPooledTransport(mimeMessages, originalMessages));
+    }
+
+    private void sendWithPooledTransport(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        Transport transport;
+
+        try {
+            transport = borrowTransport();
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], e);
+            }
+            throw new MailSendException("Mail server connection failed", e, failedMessages);
+        }
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    if (mimeMessage.getSentDate() == null) {
+                        mimeMessage.setSentDate(new Date());
+                    }
+                    String messageId = mimeMessage.getMessageID();
+                    mimeMessage.saveChanges();
+                    if (messageId != null) {
+                        // preserve explicitly specified message id, as it may get overwritten by saveChanges
+                        mimeMessage.setHeader("Message-ID", messageId);
+                    }
+                    transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                } catch (MessagingException e) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, e);
+                }
+            }
+        } finally {
+            returnTransport(transport);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private Transport borrowTransport() throws MessagingException {
+        Transport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            // checks the connection is still alive, the server closes connections left idle for too long
+            if (transport.isConnected()) {
+                connectionsReused.increment();
+                return transport;
+            }
+            close(transport);
+        }
+
+        transport = connectTransport();
+        connectionsOpened.increment();
+        return transport;
+    }
+
+    private void returnTransport(Transport transport) {
+        if (!transport.isConnected() || !idleTransports.offer(transport)) {
+            close(transport);
+        }
+    }
+
+    private static void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close mail server connection", e);
+        }
+    }
+}
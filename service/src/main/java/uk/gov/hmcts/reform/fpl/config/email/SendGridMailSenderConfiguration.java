@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.fpl.config.email;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -21,10 +22,11 @@ public class SendGridMailSenderConfiguration {
     private String host;
     private int port;
     private String apiKey;
+    private int poolSize = 4;
 
     @Bean
-    public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+    public JavaMailSender javaMailSender(MeterRegistry meterRegistry) {
+        JavaMailSenderImpl javaMailSender = new PooledTransportMailSender(poolSize, meterRegistry);
         javaMailSender.setHost(host);
         javaMailSender.setPort(port);
         javaMailSender.setUsername("apikey");
@@ -25,7 +25,7 @@ public class SecurityConfiguration {
             http
                 .oauth2ResourceServer(OAuth2ResourceServerConfigurer::jwt)
                 .authorizeRequests()
-                    .antMatchers("/callback/**")
+                    .antMatchers("/callback/**", "/order-previews/**")
                     .authenticated();
         }
     }
@@ -55,8 +55,9 @@ public class ManageOrdersController extends CallbackController {
     @PostMapping("/initial-selection/mid-event")
     public AboutToStartOrSubmitCallbackResponse populateInitialSection(@RequestBody CallbackRequest callbackRequest) {
         CaseDetails caseDetails = callbackRequest.getCaseDetails();
+        CaseData caseData = getCaseData(caseDetails);
 
-        caseDetails.getData().putAll(operationPostPopulator.populate(caseDetails));
+        caseDetails.getData().putAll(operationPostPopulator.populate(caseData));
 
         return respond(caseDetails);
     }
@@ -71,10 +72,7 @@ public class ManageOrdersController extends CallbackController {
 
         data.put("orderTempQuestions", showHideQuestionsCalculator.calculate(order));
 
-        data.putAll(
-            orderSectionAndQuestionsPrePopulator.prePopulate(
-                order, order.firstSection(), fixAndRetrieveCaseData(caseDetails))
-        );
+        data.putAll(orderSectionAndQuestionsPrePopulator.prePopulate(order, order.firstSection(), caseData));
 
         return respond(caseDetails);
     }
@@ -126,6 +124,7 @@ public class ManageOrdersController extends CallbackController {
         publishEvent(eventBuilder.build(caseData, caseDataBefore));
     }
 
+    // the case data is converted and fixed once per callback and then shared by every step of it
     private CaseData fixAndRetrieveCaseData(CaseDetails caseDetails) {
         return manageOrdersCaseDataFixer.fix(getCaseData(caseDetails));
     }
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.fpl.controllers.orders;
+
+import feign.FeignException;
+import io.swagger.annotations.Api;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreview;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreviewStore;
+
+import java.util.Optional;
+
+/**
+ * Serves the draft order previews kept by {@link DraftOrderPreviewStore}, previews that have expired are not found.
+ * A preview is only served to users who can access its case in CCD.
+ */
+@Api
+@Slf4j
+@RestController
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class DraftOrderPreviewController {
+
+    private final DraftOrderPreviewStore previewStore;
+    private final CoreCaseDataService coreCaseDataService;
+
+    @GetMapping("/order-previews/{token}")
+    public ResponseEntity<byte[]> getPreview(@PathVariable String token) {
+        Optional<DraftOrderPreview> stored = previewStore.get(token);
+
+        if (stored.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        DraftOrderPreview preview = stored.get();
+
+        if (!hasAccessToCase(preview.getCaseId())) {
+            log.warn("Draft order preview {} of case {} requested without access to the case", token,
+                preview.getCaseId());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(preview.getMediaType()))
+            .cacheControl(CacheControl.noStore())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(preview.getFileName()).build().toString())
+            .body(preview.getContent());
+    }
+
+    // CCD only returns the case to the requesting user when they have access to it
+    private boolean hasAccessToCase(Long caseId) {
+        if (caseId == null) {
+            return false;
+        }
+
+        try {
+            return coreCaseDataService.findCaseDetailsById(caseId.toString()) != null;
+        } catch (FeignException.NotFound | FeignException.Forbidden e) {
+            return false;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import uk.gov.hmcts.reform.fpl.service.TaskListService;
 import uk.gov.hmcts.reform.fpl.service.document.DocumentListService;
 import uk.gov.hmcts.reform.fpl.service.noc.NoticeOfChangeFieldPopulator;
 import uk.gov.hmcts.reform.fpl.service.validators.CaseSubmissionChecker;
+import uk.gov.hmcts.reform.fpl.service.validators.ValidationResults;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -153,8 +154,10 @@ public class MigrateCaseController extends CallbackController {
 
         if (caseData.getState() == OPEN) {
 
-            final List<Task> tasks = taskListService.getTasksForOpenCase(caseData);
-            final List<EventValidationErrors> eventErrors = caseSubmissionChecker.validateAsGroups(caseData);
+            final ValidationResults validationResults = new ValidationResults(caseData);
+            final List<Task> tasks = taskListService.getTasksForOpenCase(caseData, validationResults);
+            final List<EventValidationErrors> eventErrors = caseSubmissionChecker.validateAsGroups(caseData,
+                validationResults);
             final String taskList = taskListRenderer.render(tasks, eventErrors);
 
             return Optional.of(taskList);
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.function.Consumer;
 
 @Component
 public class DocmosisHelper {
@@ -20,14 +21,21 @@ public class DocmosisHelper {
     private static final String DATA_REGION = "dataRegion";
 
     public String extractPdfContent(byte[] binaries) {
+        final StringBuilder textBuilder = new StringBuilder();
 
-        try (final PDDocument pdf = PDDocument.load(binaries)) {
+        extractPdfContent(binaries, textBuilder::append);
 
-            final StringBuilder textBuilder = new StringBuilder();
+        return textBuilder.toString();
+    }
 
-            for (int i = 0; i < pdf.getNumberOfPages(); i++) {
-                PDPage page = pdf.getPage(i);
+    /**
+     * Passes the text of each page to the consumer, one page at a time, from a single load of the document.
+     */
+    public void extractPdfContent(byte[] binaries, Consumer<String> pageContentConsumer) {
 
+        try (final PDDocument pdf = PDDocument.load(binaries)) {
+
+            for (PDPage page : pdf.getPages()) {
                 PDRectangle dimensions = page.getCropBox();
 
                 Rectangle2D dataRegion = new Rectangle2D.Double(0, 0,
@@ -38,11 +46,9 @@ public class DocmosisHelper {
                 textStripper.addRegion(DATA_REGION, dataRegion);
                 textStripper.extractRegions(page);
 
-                textBuilder.append(textStripper.getTextForRegion(DATA_REGION));
+                pageContentConsumer.accept(textStripper.getTextForRegion(DATA_REGION));
             }
 
-            return textBuilder.toString();
-
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.fpl.exceptions;
+
+public class OrdersSealingTimeoutException extends AboutToStartOrSubmitCallbackException {
+    public OrdersSealingTimeoutException(String message) {
+        super("The approved orders could not be sealed in time. Try again in a few minutes.", message);
+    }
+}
@@ -12,6 +12,7 @@ import uk.gov.hmcts.reform.fpl.service.TaskListRenderer;
 import uk.gov.hmcts.reform.fpl.service.TaskListService;
 import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
 import uk.gov.hmcts.reform.fpl.service.validators.CaseSubmissionChecker;
+import uk.gov.hmcts.reform.fpl.service.validators.ValidationResults;
 
 import java.util.List;
 import java.util.Map;
@@ -35,8 +36,10 @@ public class CaseEventHandler {
 
         if (caseData.getState() == OPEN) {
 
-            final List<Task> tasks = taskListService.getTasksForOpenCase(caseData);
-            final List<EventValidationErrors> eventErrors = caseSubmissionChecker.validateAsGroups(caseData);
+            final ValidationResults validationResults = new ValidationResults(caseData);
+            final List<Task> tasks = taskListService.getTasksForOpenCase(caseData, validationResults);
+            final List<EventValidationErrors> eventErrors = caseSubmissionChecker.validateAsGroups(caseData,
+                validationResults);
             final String taskList = taskListRenderer.render(tasks, eventErrors);
 
             coreCaseDataService.triggerEvent(
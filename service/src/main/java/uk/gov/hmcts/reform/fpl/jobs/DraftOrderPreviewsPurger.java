@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.fpl.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreviewStore;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+@ConditionalOnProperty(value = "scheduler.enabled", havingValue = "true")
+public class DraftOrderPreviewsPurger implements Job {
+
+    private final DraftOrderPreviewStore previewStore;
+
+    @Override
+    public void execute(JobExecutionContext jobExecutionContext) {
+        final String jobName = jobExecutionContext.getJobDetail().getKey().getName();
+
+        log.info("Job '{}' started", jobName);
+
+        long purged = previewStore.purge();
+
+        log.info("Job '{}' removed {} draft order preview(s)", jobName, purged);
+        log.info("Job '{}' finished", jobName);
+    }
+}
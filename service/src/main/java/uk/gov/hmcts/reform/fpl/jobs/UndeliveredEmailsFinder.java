@@ -11,12 +11,14 @@ import org.springframework.context.ApplicationEventPublisher;
 import uk.gov.hmcts.reform.fpl.events.UndeliveredEmailsFound;
 import uk.gov.hmcts.reform.fpl.exceptions.JobException;
 import uk.gov.hmcts.reform.fpl.model.UndeliveredEmail;
+import uk.gov.service.notify.Notification;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationList;
 
-import java.util.List;
-
-import static java.util.stream.Collectors.toList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
@@ -24,6 +26,8 @@ import static java.util.stream.Collectors.toList;
 public class UndeliveredEmailsFinder implements Job {
 
     private static final int REPORT_PERIOD_IN_DAYS = 1;
+    // Notify keeps retrying a temporary failure for up to 72 hours after the email was created
+    private static final int NOTIFY_RETRY_PERIOD_IN_HOURS = 72;
 
     private final NotificationClient notifications;
     private final ApplicationEventPublisher applicationEventPublisher;
@@ -36,20 +40,38 @@ public class UndeliveredEmailsFinder implements Job {
 
         try {
             DateTime reportFrom = DateTime.now().minusDays(REPORT_PERIOD_IN_DAYS);
+            DateTime scanFrom = reportFrom.minusHours(NOTIFY_RETRY_PERIOD_IN_HOURS);
+
+            Map<UUID, UndeliveredEmail> undeliveredEmails = new LinkedHashMap<>();
+            String olderThanId = null;
+            boolean morePages = true;
+
+            // notifications come newest first by creation date a page at a time, while a failure is reported by
+            // the time it completed, which can be up to the retry period after the email was created
+            while (morePages) {
+                NotificationList page = notifications.getNotifications("failed", "email", null, olderThanId);
+                morePages = page.getNextPageLink().isPresent() && !page.getNotifications().isEmpty();
 
-            NotificationList undeliveredEmailsReport = notifications.getNotifications("failed", "email", null, null);
+                for (Notification email : page.getNotifications()) {
+                    if (email.getCreatedAt().isBefore(scanFrom)) {
+                        morePages = false;
+                        break;
+                    }
 
-            List<UndeliveredEmail> undeliveredEmails = undeliveredEmailsReport.getNotifications().stream()
-                .filter(email -> email.getCompletedAt().isPresent())
-                .filter(email -> email.getCompletedAt().get().isAfter(reportFrom))
-                .map(UndeliveredEmail::fromNotification)
-                .collect(toList());
+                    if (email.getCompletedAt().isPresent() && email.getCompletedAt().get().isAfter(reportFrom)) {
+                        undeliveredEmails.putIfAbsent(email.getId(), UndeliveredEmail.fromNotification(email));
+                    }
+
+                    olderThanId = email.getId().toString();
+                }
+            }
 
             if (undeliveredEmails.isEmpty()) {
                 log.info("Job '{}' did not find any undelivered emails", jobName);
             } else {
                 log.info("Job '{}' found {} undelivered email(s)", jobName, undeliveredEmails.size());
-                applicationEventPublisher.publishEvent(new UndeliveredEmailsFound(undeliveredEmails));
+                applicationEventPublisher.publishEvent(
+                    new UndeliveredEmailsFound(new ArrayList<>(undeliveredEmails.values())));
             }
 
         } catch (Exception ex) {
@@ -2,8 +2,11 @@ package uk.gov.hmcts.reform.fpl.model.email;
 
 import lombok.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamSource;
 
+import java.nio.file.Path;
+
 @Value
 public class EmailAttachment {
     private final InputStreamSource data;
@@ -18,6 +21,10 @@ public class EmailAttachment {
         return create(contentType, content, fileName);
     }
 
+    public static EmailAttachment document(String contentType, final Path content, final String fileName) {
+        return new EmailAttachment(new FileSystemResource(content), contentType, fileName);
+    }
+
     private static EmailAttachment create(final String contentType, final byte[] content, final String filename) {
         return new EmailAttachment(new ByteArrayResource(content), contentType, filename);
     }
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.fpl.request;
+
+import com.launchdarkly.sdk.LDValue;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Holds feature toggle values evaluated during a single http request or async event, so that the same
+ * (flag, context) pair is only evaluated once and gives the same answer for the whole request.
+ *
+ * @see uk.gov.hmcts.reform.fpl.config.FeatureToggleSnapshotInterceptor
+ * @see uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.AsyncTaskDecorator
+ */
+@Slf4j
+public class FeatureToggleSnapshot {
+    private static final ThreadLocal<FeatureToggleSnapshot> SNAPSHOT_THREAD_LOCAL = new ThreadLocal<>();
+
+    private final Map<Key, Boolean> values = new ConcurrentHashMap<>();
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final AtomicInteger evaluationsAvoided = new AtomicInteger();
+
+    public static void open() {
+        SNAPSHOT_THREAD_LOCAL.set(new FeatureToggleSnapshot());
+    }
+
+    /**
+     * Shares the snapshot of the request with a task it spawned, so that the task gets the same answers.
+     */
+    public static void attach(FeatureToggleSnapshot snapshot) {
+        SNAPSHOT_THREAD_LOCAL.set(snapshot);
+    }
+
+    public static void detach() {
+        SNAPSHOT_THREAD_LOCAL.remove();
+    }
+
+    public static void close() {
+        get().ifPresent(snapshot -> log.debug("Feature toggle snapshot evaluated {} flags, {} evaluations avoided",
+            snapshot.getEvaluations(), snapshot.getEvaluationsAvoided()));
+        SNAPSHOT_THREAD_LOCAL.remove();
+    }
+
+    public static Optional<FeatureToggleSnapshot> get() {
+        return Optional.ofNullable(SNAPSHOT_THREAD_LOCAL.get());
+    }
+
+    public boolean getOrEvaluate(String flag, Map<String, LDValue> context, boolean defaultValue,
+                                 Supplier<Boolean> evaluation) {
+        Key key = new Key(flag, context, defaultValue);
+        Boolean value = values.get(key);
+
+        if (value != null) {
+            evaluationsAvoided.incrementAndGet();
+            return value;
+        }
+
+        return values.computeIfAbsent(key, k -> {
+            evaluations.incrementAndGet();
+            return evaluation.get();
+        });
+    }
+
+    public int getEvaluations() {
+        return evaluations.get();
+    }
+
+    public int getEvaluationsAvoided() {
+        return evaluationsAvoided.get();
+    }
+
+    @Value
+    private static class Key {
+        String flag;
+        Map<String, LDValue> context;
+        boolean defaultValue;
+    }
+}
@@ -15,6 +15,9 @@ import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.apache.pdfbox.pdmodel.PDPageContentStream.AppendMode.APPEND;
 import static org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject.createFromByteArray;
@@ -26,7 +29,6 @@ import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class DocumentSealingService {
 
-    private static final String SEAL = "static_data/familycourtseal.png";
     private static final String PDF = "pdf";
     private static final float POINTS_PER_INCH = 72;
     private static final float POINTS_PER_MM = 1 / (10 * 2.54f) * POINTS_PER_INCH;
@@ -34,10 +36,13 @@ public class DocumentSealingService {
     private static final int SEAL_WIDTH = mm2pt(25);
     private static final int MARGIN_TOP = mm2pt(30);
     private static final int MARGIN_RIGHT = mm2pt(30);
+    private static final int MAX_CONCURRENT_SEALS = 4;
+    private static final Map<SealType, byte[]> SEAL_IMAGES = readSealImages();
 
     private final UploadDocumentService uploadDocumentService;
     private final DocumentConversionService documentConversionService;
     private final DocumentDownloadService documentDownloadService;
+    private final ParallelTaskRunner parallelTaskRunner;
 
     public DocumentReference sealDocument(DocumentReference document, SealType sealType) {
         byte[] documentContents = documentDownloadService.downloadDocument(document.getBinaryUrl());
@@ -49,8 +54,17 @@ public class DocumentSealingService {
         return buildFromDocument(uploadDocumentService.uploadPDF(documentContents, newFilename));
     }
 
+    /**
+     * Seals documents in parallel, each one downloaded, converted to pdf, sealed and uploaded independently.
+     *
+     * @return sealed documents in the order of the given documents
+     */
+    public List<DocumentReference> sealDocuments(List<DocumentReference> documents, SealType sealType) {
+        return parallelTaskRunner.map(documents, document -> sealDocument(document, sealType), MAX_CONCURRENT_SEALS);
+    }
+
     public byte[] sealDocument(byte[] binaries, SealType sealType) {
-        byte[] seal = readBytes(sealType.getImage());
+        byte[] seal = SEAL_IMAGES.get(sealType);
 
         try (final PDDocument document = PDDocument.load(binaries)) {
             final PDPage firstPage = document.getPage(0);
@@ -78,6 +92,14 @@ public class DocumentSealingService {
         }
     }
 
+    private static Map<SealType, byte[]> readSealImages() {
+        Map<SealType, byte[]> sealImages = new EnumMap<>(SealType.class);
+        for (SealType sealType : SealType.values()) {
+            sealImages.put(sealType, readBytes(sealType.getImage()));
+        }
+        return sealImages;
+    }
+
     private static int mm2pt(int mm) {
         return Math.round(POINTS_PER_MM * mm);
     }
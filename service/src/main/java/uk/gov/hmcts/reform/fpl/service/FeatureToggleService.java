@@ -6,6 +6,7 @@ import com.launchdarkly.sdk.server.LDClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.fpl.request.FeatureToggleSnapshot;
 
 import java.util.Map;
 
@@ -27,59 +28,58 @@ public class FeatureToggleService {
     }
 
     public boolean isCtscEnabled(String localAuthorityName) {
-        return ldClient.boolVariation("CTSC",
-            createLDUser(Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityName))), false);
+        return evaluate("CTSC", Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityName)), false);
     }
 
     public boolean isCtscReportEnabled() {
-        return ldClient.boolVariation("CTSC",
-            createLDUser(Map.of("report", LDValue.of(true))), false);
+        return evaluate("CTSC", Map.of("report", LDValue.of(true)), false);
     }
 
     public boolean isCaseCreationForNotOnboardedUsersEnabled(String localAuthorityCode) {
-        return ldClient.boolVariation("allow-case-creation-for-users-not-onboarded-to-mo",
-            createLDUser(Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityCode))), false);
+        return evaluate("allow-case-creation-for-users-not-onboarded-to-mo",
+            Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityCode)), false);
     }
 
     public boolean isRestrictedFromCaseSubmission(String localAuthorityName) {
-        return ldClient.boolVariation("restrict-case-submission",
-            createLDUser(Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityName))), false);
+        return evaluate("restrict-case-submission",
+            Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityName)), false);
     }
 
     public boolean emailsToSolicitorEnabled(String localAuthorityName) {
-        return ldClient.boolVariation("send-la-emails-to-solicitor",
-            createLDUser(Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityName))), true);
+        return evaluate("send-la-emails-to-solicitor",
+            Map.of(LOCAL_AUTHORITY_NAME_KEY, LDValue.of(localAuthorityName)), true);
     }
 
     public boolean isSummaryTabFirstCronRunEnabled() {
-        return ldClient.boolVariation("summary-tab-first-run", createLDUser(), false);
+        return evaluate("summary-tab-first-run", Map.of(), false);
     }
 
     public boolean isFeeAndPayCaseTypeEnabled() {
-        return ldClient.boolVariation("fee-and-pay-case-type", createLDUser(), false);
+        return evaluate("fee-and-pay-case-type", Map.of(), false);
     }
 
     public boolean isNewDocumentUploadNotificationEnabled() {
-        return ldClient.boolVariation("document-upload-new-notification",
-            createLDUser(), false);
+        return evaluate("document-upload-new-notification", Map.of(), false);
 
     }
 
     public boolean isFurtherEvidenceDocumentTabEnabled() {
-        return ldClient.boolVariation("further-evidence-document-tab",
-            createLDUser(), false);
+        return evaluate("further-evidence-document-tab", Map.of(), false);
     }
 
     public boolean isApplicantAdditionalContactsEnabled() {
-        return ldClient.boolVariation("applicant-additional-contacts", createLDUser(), false);
+        return evaluate("applicant-additional-contacts", Map.of(), false);
     }
 
     public boolean isLanguageRequirementsEnabled() {
-        return ldClient.boolVariation("language-requirements", createLDUser(), false);
+        return evaluate("language-requirements", Map.of(), false);
     }
 
-    private LDUser createLDUser() {
-        return createLDUser(Map.of());
+    private boolean evaluate(String flag, Map<String, LDValue> context, boolean defaultValue) {
+        return FeatureToggleSnapshot.get()
+            .map(snapshot -> snapshot.getOrEvaluate(flag, context, defaultValue,
+                () -> ldClient.boolVariation(flag, createLDUser(context), defaultValue)))
+            .orElseGet(() -> ldClient.boolVariation(flag, createLDUser(context), defaultValue));
     }
 
     private LDUser createLDUser(Map<String, LDValue> values) {
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.model.HearingBooking;
@@ -11,18 +12,33 @@ import uk.gov.hmcts.reform.fpl.model.HearingVenue;
 import uk.gov.hmcts.reform.fpl.utils.ResourceReader;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 @Slf4j
 @Service
 public class HearingVenueLookUpService {
     public static final String HEARING_VENUE_ID_OTHER = "OTHER";
 
+    private static final int MAX_FUZZY_DISTANCE = 2;
+    private static final LevenshteinDistance FUZZY_DISTANCE = new LevenshteinDistance(MAX_FUZZY_DISTANCE);
+
     private final ObjectMapper objectMapper;
-    private List<HearingVenue> hearingVenues;
+    private List<HearingVenue> hearingVenues = List.of();
+    private Map<String, HearingVenue> hearingVenuesById = Map.of();
+    private Map<String, String> hearingVenueIdsByAddress = Map.of();
+    private NavigableMap<String, HearingVenue> hearingVenuesByName = new TreeMap<>();
 
     @Autowired
     public HearingVenueLookUpService(ObjectMapper objectMapper) {
@@ -34,11 +50,32 @@ public class HearingVenueLookUpService {
         try {
             final String jsonContent = ResourceReader.readString("static_data/hearingVenues.json");
             hearingVenues = objectMapper.readValue(jsonContent, new TypeReference<>() {});
+            indexHearingVenues();
         } catch (IOException e) {
             log.error("Unable to parse hearingVenues.json file.", e);
         }
     }
 
+    private void indexHearingVenues() {
+        Map<String, HearingVenue> byId = new HashMap<>();
+        Map<String, String> idsByAddress = new HashMap<>();
+        NavigableMap<String, HearingVenue> byName = new TreeMap<>();
+
+        for (HearingVenue hearingVenue : hearingVenues) {
+            if (hearingVenue.getHearingVenueId() != null) {
+                byId.putIfAbsent(normalise(hearingVenue.getHearingVenueId()), hearingVenue);
+                idsByAddress.putIfAbsent(normalise(buildHearingVenue(hearingVenue)), hearingVenue.getHearingVenueId());
+            }
+            if (hearingVenue.getVenue() != null) {
+                byName.putIfAbsent(normalise(hearingVenue.getVenue()), hearingVenue);
+            }
+        }
+
+        hearingVenuesById = Map.copyOf(byId);
+        hearingVenueIdsByAddress = Map.copyOf(idsByAddress);
+        hearingVenuesByName = Collections.unmodifiableNavigableMap(byName);
+    }
+
     public HearingVenue getHearingVenue(final HearingBooking hearingBooking) {
         if (!HEARING_VENUE_ID_OTHER.equals(hearingBooking.getVenue())) {
             return getHearingVenue(hearingBooking.getVenue());
@@ -52,19 +89,44 @@ public class HearingVenueLookUpService {
     }
 
     public HearingVenue getHearingVenue(final String venueId) {
-        return this.hearingVenues.stream()
-            .filter(hearingVenue -> venueId.equalsIgnoreCase(hearingVenue.getHearingVenueId()))
-            .findFirst()
+        return Optional.ofNullable(venueId)
+            .map(id -> hearingVenuesById.get(normalise(id)))
             .orElse(HearingVenue.builder().build());
     }
 
     public String getVenueId(final String venueAsString) {
-        for (HearingVenue hearingVenue : hearingVenues) {
-            if (venueAsString.equalsIgnoreCase(buildHearingVenue(hearingVenue))) {
-                return hearingVenue.getHearingVenueId();
+        return hearingVenueIdsByAddress.getOrDefault(normalise(venueAsString), HEARING_VENUE_ID_OTHER);
+    }
+
+    /**
+     * Finds venues for the venue picker. Venues whose name starts with the query come first, then venues with a
+     * word starting with the query, then venues with a word within a couple of typos of the query.
+     */
+    public List<HearingVenue> searchHearingVenues(final String query, final int limit) {
+        String prefix = normalise(query);
+
+        if (StringUtils.isBlank(prefix) || limit <= 0) {
+            return List.of();
+        }
+
+        Set<HearingVenue> matches = new LinkedHashSet<>(
+            hearingVenuesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values());
+
+        hearingVenuesByName.forEach((name, venue) -> {
+            if (words(name).anyMatch(word -> word.startsWith(prefix))) {
+                matches.add(venue);
             }
+        });
+
+        if (matches.size() < limit && !prefix.contains(" ")) {
+            hearingVenuesByName.forEach((name, venue) -> {
+                if (words(name).anyMatch(word -> FUZZY_DISTANCE.apply(word, prefix) != -1)) {
+                    matches.add(venue);
+                }
+            });
         }
-        return HEARING_VENUE_ID_OTHER;
+
+        return matches.stream().limit(limit).collect(toList());
     }
 
     public String buildHearingVenue(final HearingVenue hearingVenue) {
@@ -77,4 +139,12 @@ public class HearingVenueLookUpService {
                 .collect(joining(", "));
         }
     }
+
+    private static String normalise(String value) {
+        return StringUtils.lowerCase(StringUtils.trim(value));
+    }
+
+    private static Stream<String> words(String name) {
+        return Stream.of(name.split("[^\\p{Alnum}]+")).filter(StringUtils::isNotEmpty);
+    }
 }
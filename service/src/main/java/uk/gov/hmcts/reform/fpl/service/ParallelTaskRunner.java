@@ -0,0 +1,232 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.PARALLEL_TASK_EXECUTOR;
+import static uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.PARALLEL_TASK_OVERFLOW_EXECUTOR;
+
+/**
+ * Runs independent tasks of a single request on the shared parallel task pool. Tasks see the request data of the
+ * caller. When the pool is saturated, tasks without a timeout run on the calling thread instead, and tasks with a
+ * timeout run on the bounded overflow pool so that their timeout still holds.
+ */
+@Slf4j
+@Service
+public class ParallelTaskRunner {
+
+    private final Executor executor;
+    private final Executor overflowExecutor;
+
+    @Autowired
+    public ParallelTaskRunner(@Qualifier(PARALLEL_TASK_EXECUTOR) Executor executor,
+                              @Qualifier(PARALLEL_TASK_OVERFLOW_EXECUTOR) Executor overflowExecutor) {
+        this.executor = executor;
+        this.overflowExecutor = overflowExecutor;
+    }
+
+    public ParallelTaskRunner(Executor executor) {
+        this(executor, executor);
+    }
+
+    /**
+     * Applies the task to every item with at most maxConcurrency tasks in flight at once.
+     *
+     * @return results in the order of the items
+     * @throws RuntimeException the first failure, rethrown once every task has finished
+     */
+    public <T, R> List<R> map(List<T> items, Function<T, R> task, int maxConcurrency) {
+        if (items.size() <= 1 || maxConcurrency <= 1) {
+            return items.stream().map(task).collect(toList());
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        for (Outcome<R> outcome : run(items, task, maxConcurrency, () -> null)) {
+            results.add(outcome.get());
+        }
+        return results;
+    }
+
+    /**
+     * Applies the task to every item with at most maxConcurrency tasks in flight at once. When a timeout is given,
+     * a task that has not finished within it fails with {@link TimeoutException} and frees its slot. A task that
+     * has not started by then never starts, a running one is interrupted.
+     *
+     * @return outcome of every task in the order of the items, one failed task does not fail the others
+     */
+    public <T, R> List<Outcome<R>> mapEach(List<T> items, Function<T, R> task, int maxConcurrency,
+                                           Duration timeout) {
+        return run(items, task, Math.max(1, maxConcurrency), () -> timeout);
+    }
+
+    /**
+     * As {@link #mapEach} but with a deadline shared by all the tasks rather than a timeout for each one, tasks
+     * still waiting for a slot when the deadline passes fail straight away.
+     */
+    public <T, R> List<Outcome<R>> mapEachBefore(List<T> items, Function<T, R> task, int maxConcurrency,
+                                                 Instant deadline) {
+        return run(items, task, Math.max(1, maxConcurrency), () -> {
+            Duration remaining = Duration.between(Instant.now(), deadline);
+            return remaining.toMillis() <= 0 ? Duration.ZERO : remaining;
+        });
+    }
+
+    private <T, R> List<Outcome<R>> run(List<T> items, Function<T, R> task, int maxConcurrency,
+                                        Supplier<Duration> timeouts) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+
+        for (T item : items) {
+            permits.acquireUninterruptibly();
+
+            Duration timeout = timeouts.get();
+            CompletableFuture<R> future;
+            if (timeout == null) {
+                future = submit(item, task);
+            } else if (timeout.isZero()) {
+                future = CompletableFuture.failedFuture(new TimeoutException());
+            } else {
+                future = submitWithTimeout(item, task, timeout);
+            }
+            future.whenComplete((result, failure) -> permits.release());
+            futures.add(future);
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .exceptionally(failure -> null)
+            .join();
+
+        return futures.stream().map(ParallelTaskRunner::toOutcome).collect(toList());
+    }
+
+    private <T, R> CompletableFuture<R> submit(T item, Function<T, R> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> task.apply(item), executor);
+        } catch (RejectedExecutionException e) {
+            log.debug("Parallel task pool saturated, running task on calling thread");
+
+            CompletableFuture<R> future = new CompletableFuture<>();
+            try {
+                future.complete(task.apply(item));
+            } catch (RuntimeException failure) {
+                future.completeExceptionally(failure);
+            }
+            return future;
+        }
+    }
+
+    private <T, R> CompletableFuture<R> submitWithTimeout(T item, Function<T, R> task, Duration timeout) {
+        TimedTask<R> timedTask = new TimedTask<>(() -> task.apply(item));
+
+        try {
+            executor.execute(timedTask);
+        } catch (RejectedExecutionException e) {
+            log.debug("Parallel task pool saturated, running task on overflow pool");
+            try {
+                overflowExecutor.execute(timedTask);
+            } catch (RejectedExecutionException overflowRejection) {
+                timedTask.future.completeExceptionally(overflowRejection);
+            }
+        }
+
+        return timedTask.future.orTimeout(timeout.toMillis(), MILLISECONDS)
+            .whenComplete((result, failure) -> {
+                if (failure instanceof TimeoutException) {
+                    timedTask.cancel();
+                }
+            });
+    }
+
+    private static <R> Outcome<R> toOutcome(CompletableFuture<R> future) {
+        try {
+            return new Outcome<>(future.join(), null);
+        } catch (CompletionException e) {
+            return new Outcome<>(null, e.getCause());
+        }
+    }
+
+    private static class TimedTask<R> implements Runnable {
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final Supplier<R> work;
+        private Thread runner;
+        private boolean interrupted;
+
+        TimedTask(Supplier<R> work) {
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (future.isDone()) {
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            try {
+                future.complete(work.get());
+            } catch (RuntimeException | Error failure) {
+                future.completeExceptionally(failure);
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    if (interrupted) {
+                        // the interrupt was meant for this task only, not for whatever the thread runs next
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        synchronized void cancel() {
+            if (runner != null) {
+                interrupted = true;
+                runner.interrupt();
+            }
+        }
+    }
+
+    @Value
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Outcome<R> {
+        R value;
+        Throwable failure;
+
+        public boolean isSuccess() {
+            return failure == null;
+        }
+
+        R get() {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new CompletionException(failure);
+            }
+            return value;
+        }
+    }
+}
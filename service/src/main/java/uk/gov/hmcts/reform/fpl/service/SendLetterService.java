@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,18 +11,21 @@ import uk.gov.hmcts.reform.fpl.model.Recipient;
 import uk.gov.hmcts.reform.fpl.model.SentDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.model.configuration.Language;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner.Outcome;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisCoverDocumentsService;
 import uk.gov.hmcts.reform.fpl.service.time.Time;
 import uk.gov.hmcts.reform.sendletter.api.LetterWithPdfsRequest;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterApi;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterResponse;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static uk.gov.hmcts.reform.fpl.model.common.DocumentReference.buildFromDocument;
 import static uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper.formatLocalDateTimeBaseUsingFormat;
@@ -33,6 +37,8 @@ public class SendLetterService {
 
     private static final String SEND_LETTER_TYPE = "FPLA001";
     private static final String COVERSHEET_FILENAME = "Coversheet.pdf";
+    private static final int MAX_CONCURRENT_LETTERS = 4;
+    private static final Duration COVERSHEET_TIMEOUT = Duration.ofMinutes(1);
 
     private final Time time;
     private final SendLetterApi sendLetterApi;
@@ -40,40 +46,100 @@ public class SendLetterService {
     private final DocmosisCoverDocumentsService docmosisCoverDocumentsService;
     private final AuthTokenGenerator authTokenGenerator;
     private final UploadDocumentService uploadDocumentService;
+    private final ParallelTaskRunner parallelTaskRunner;
 
     public List<SentDocument> send(DocumentReference mainDocument, List<Recipient> recipients, Long caseId,
                                    String familyManCaseNumber, Language language) {
-        List<SentDocument> sentDocuments = new ArrayList<>();
         byte[] mainDocumentBinary = documentDownloadService.downloadDocument(mainDocument.getBinaryUrl());
         var mainDocumentCopy = uploadDocument(mainDocumentBinary, mainDocument.getFilename());
-
         String mainDocumentEncoded = Base64.getEncoder().encodeToString(mainDocumentBinary);
-        for (Recipient recipient : recipients) {
-            byte[] coverDocument = docmosisCoverDocumentsService.createCoverDocuments(familyManCaseNumber,
-                caseId,
-                recipient, language).getBytes();
-
-            String coverDocumentEncoded = Base64.getEncoder().encodeToString(coverDocument);
-            var coversheet = uploadDocument(coverDocument, COVERSHEET_FILENAME);
-            String letterId = EMPTY;
-            try {
-                SendLetterResponse response = sendLetterApi.sendLetter(authTokenGenerator.generate(),
-                    new LetterWithPdfsRequest(List.of(coverDocumentEncoded, mainDocumentEncoded),
-                        SEND_LETTER_TYPE,
-                        Map.of("caseId", caseId, "documentName", mainDocument.getFilename())));
-                letterId = Optional.ofNullable(response).map(r -> r.letterId.toString()).orElse(EMPTY);
-            } catch (Exception exception) {
-                log.error("Exception raised when sending letter for case id {} and document {}.",
-                    caseId, mainDocument.getFilename(), exception);
+
+        // only preparing a letter is timed out, a letter whose sending has started is always waited for and recorded
+        List<Outcome<Coversheet>> coversheets = parallelTaskRunner.mapEach(recipients,
+            recipient -> prepareCoversheet(recipient, caseId, familyManCaseNumber, language),
+            MAX_CONCURRENT_LETTERS, COVERSHEET_TIMEOUT);
+
+        List<Coversheet> preparedCoversheets = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        coversheets.forEach(outcome -> {
+            if (outcome.isSuccess()) {
+                preparedCoversheets.add(outcome.getValue());
+            } else {
+                log.error("Exception raised when preparing letter for case id {} and document {}.",
+                    caseId, mainDocument.getFilename(), outcome.getFailure());
+                failures.add(outcome.getFailure());
             }
+        });
+
+        List<Outcome<SentDocument>> outcomes = parallelTaskRunner.mapEach(preparedCoversheets,
+            coversheet -> sendLetter(coversheet, mainDocument, mainDocumentCopy, mainDocumentEncoded, caseId),
+            MAX_CONCURRENT_LETTERS, null);
 
-            sentDocuments.add(SentDocument.builder()
-                .partyName(recipient.getFullName())
-                .document(mainDocumentCopy)
-                .coversheet(coversheet)
-                .sentAt(formatLocalDateTimeBaseUsingFormat(time.now(), "h:mma, d MMMM yyyy"))
-                .letterId(letterId)
-                .build());
+        return getSentDocuments(outcomes, failures, recipients.size(), caseId, mainDocument);
+    }
+
+    private Coversheet prepareCoversheet(Recipient recipient, Long caseId, String familyManCaseNumber,
+                                         Language language) {
+        byte[] coverDocument = docmosisCoverDocumentsService.createCoverDocuments(familyManCaseNumber,
+            caseId,
+            recipient, language).getBytes();
+
+        return new Coversheet(recipient, uploadDocument(coverDocument, COVERSHEET_FILENAME),
+            Base64.getEncoder().encodeToString(coverDocument));
+    }
+
+    private SentDocument sendLetter(Coversheet coversheet, DocumentReference mainDocument,
+                                    DocumentReference mainDocumentCopy, String mainDocumentEncoded, Long caseId) {
+        String letterId = EMPTY;
+        try {
+            SendLetterResponse response = sendLetterApi.sendLetter(authTokenGenerator.generate(),
+                new LetterWithPdfsRequest(List.of(coversheet.getEncoded(), mainDocumentEncoded),
+                    SEND_LETTER_TYPE,
+                    Map.of("caseId", caseId, "documentName", mainDocument.getFilename())));
+            letterId = Optional.ofNullable(response).map(r -> r.letterId.toString()).orElse(EMPTY);
+        } catch (Exception exception) {
+            log.error("Exception raised when sending letter for case id {} and document {}.",
+                caseId, mainDocument.getFilename(), exception);
+        }
+
+        return SentDocument.builder()
+            .partyName(coversheet.getRecipient().getFullName())
+            .document(mainDocumentCopy)
+            .coversheet(coversheet.getDocument())
+            .sentAt(formatLocalDateTimeBaseUsingFormat(time.now(), "h:mma, d MMMM yyyy"))
+            .letterId(letterId)
+            .build();
+    }
+
+    private List<SentDocument> getSentDocuments(List<Outcome<SentDocument>> outcomes, List<Throwable> failures,
+                                                int letters, Long caseId, DocumentReference mainDocument) {
+        List<SentDocument> sentDocuments = new ArrayList<>();
+
+        outcomes.forEach(outcome -> {
+            if (outcome.isSuccess()) {
+                sentDocuments.add(outcome.getValue());
+            } else {
+                log.error("Exception raised when recording letter for case id {} and document {}.",
+                    caseId, mainDocument.getFilename(), outcome.getFailure());
+                failures.add(outcome.getFailure());
+            }
+        });
+
+        if (failures.isEmpty()) {
+            return sentDocuments;
+        }
+
+        log.error("{} of {} letters for case id {} and document {} have not been sent.",
+            failures.size(), letters, caseId, mainDocument.getFilename());
+
+        if (sentDocuments.isEmpty()) {
+            Throwable failure = failures.get(0);
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw new IllegalStateException(String.format("No letters sent for case id %s and document %s",
+                caseId, mainDocument.getFilename()), failure);
         }
 
         return sentDocuments;
@@ -84,4 +150,11 @@ public class SendLetterService {
 
         return buildFromDocument(uploadedDocument);
     }
+
+    @Value
+    private static class Coversheet {
+        Recipient recipient;
+        DocumentReference document;
+        String encoded;
+    }
 }
@@ -8,6 +8,7 @@ import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.tasklist.Task;
 import uk.gov.hmcts.reform.fpl.model.tasklist.TaskState;
 import uk.gov.hmcts.reform.fpl.service.validators.EventsChecker;
+import uk.gov.hmcts.reform.fpl.service.validators.ValidationResults;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -45,16 +46,23 @@ public class TaskListService {
     private final FeatureToggleService featureToggles;
 
     public List<Task> getTasksForOpenCase(CaseData caseData) {
+        return getTasksForOpenCase(caseData, new ValidationResults(caseData));
+    }
+
+    /**
+     * @param results validation results of the case data, shared with the submission errors built from it
+     */
+    public List<Task> getTasksForOpenCase(CaseData caseData, ValidationResults results) {
         return getEvents(caseData).stream()
             .map(event -> Task.builder()
                 .event(event)
-                .state(getTaskState(caseData, event))
+                .state(getTaskState(caseData, event, results))
                 .build())
             .collect(toList());
     }
 
-    private TaskState getTaskState(CaseData caseData, Event event) {
-        if (eventsChecker.isCompleted(event, caseData)) {
+    private TaskState getTaskState(CaseData caseData, Event event, ValidationResults results) {
+        if (eventsChecker.isCompleted(event, caseData, results)) {
             return eventsChecker.completedState(event);
         }
 
@@ -62,7 +70,7 @@ public class TaskListService {
             return IN_PROGRESS;
         }
 
-        if (!eventsChecker.isAvailable(event, caseData)) {
+        if (!eventsChecker.isAvailable(event, caseData, results)) {
             return NOT_AVAILABLE;
         }
 
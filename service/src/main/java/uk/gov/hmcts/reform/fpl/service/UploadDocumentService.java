@@ -20,13 +20,15 @@ public class UploadDocumentService {
     private final AuthTokenGenerator authTokenGenerator;
     private final DocumentUploadClientApi documentUploadClient;
     private final RequestData requestData;
+    private final UploadedDocumentIndex uploadedDocuments;
 
     @Autowired
     public UploadDocumentService(AuthTokenGenerator authTokenGenerator, DocumentUploadClientApi documentUploadClient,
-                                 RequestData requestData) {
+                                 RequestData requestData, UploadedDocumentIndex uploadedDocuments) {
         this.authTokenGenerator = authTokenGenerator;
         this.documentUploadClient = documentUploadClient;
         this.requestData = requestData;
+        this.uploadedDocuments = uploadedDocuments;
     }
 
     // REFACTOR: 08/04/2021 Remove this method in subsequent PR
@@ -35,6 +37,11 @@ public class UploadDocumentService {
     }
 
     public Document uploadDocument(byte[] pdf, String fileName, String contentType) {
+        return uploadedDocuments.getOrUpload(pdf, fileName, contentType, requestData.userId(),
+            () -> upload(pdf, fileName, contentType));
+    }
+
+    private Document upload(byte[] pdf, String fileName, String contentType) {
         MultipartFile file = new InMemoryMultipartFile("files", fileName, contentType, pdf);
 
         UploadResponse response = documentUploadClient.upload(requestData.authorisation(),
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.document.domain.Document;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers recently uploaded documents by the digest of their content, so that uploading the same bytes again
+ * returns the document already in dm-store. Documents are only reused for the same user, file name and content type.
+ */
+@Slf4j
+@Component
+public class UploadedDocumentIndex {
+
+    private final Cache<Key, Document> documents;
+
+    @Autowired
+    public UploadedDocumentIndex(@Value("${documentUpload.deduplication.ttlMinutes:60}") long ttlMinutes,
+                                 @Value("${documentUpload.deduplication.maxEntries:1000}") long maxEntries) {
+        this.documents = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    public Document getOrUpload(byte[] content, String fileName, String contentType, String userId,
+                                Supplier<Document> upload) {
+        Key key = new Key(Hashing.sha256().hashBytes(content).toString(), fileName, contentType, userId);
+        Document document = documents.getIfPresent(key);
+
+        if (document != null) {
+            log.debug("Reusing uploaded document {} for identical content", document.links.self.href);
+            return document;
+        }
+
+        document = upload.get();
+        documents.put(key, document);
+        return document;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final String digest;
+        private final String fileName;
+        private final String contentType;
+        private final String userId;
+    }
+}
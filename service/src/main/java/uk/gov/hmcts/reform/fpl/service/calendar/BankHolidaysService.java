@@ -1,38 +1,121 @@
 package uk.gov.hmcts.reform.fpl.service.calendar;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Ticker;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.calendar.client.BankHolidaysApi;
 import uk.gov.hmcts.reform.calendar.model.BankHolidays;
+import uk.gov.hmcts.reform.fpl.utils.ResourceReader;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
 
-import static com.google.common.base.Suppliers.memoizeWithExpiration;
+import static com.google.common.base.Suppliers.memoize;
 import static java.util.stream.Collectors.toSet;
 
 
+@Slf4j
 @Service
 public class BankHolidaysService {
 
-    private static final int CACHE_HOURS = 12;
+    private static final Duration CACHE_PERIOD = Duration.ofHours(12);
+    // gov.uk is not asked again for a while after a failure, so that callers are not held up by its timeout
+    private static final Duration RETRY_PERIOD = Duration.ofMinutes(5);
+    private static final String FALLBACK_BANK_HOLIDAYS = "static_data/bankHolidays.json";
 
-    private Supplier<Set<LocalDate>> bankHolidays;
+    private final BankHolidaysApi bankHolidaysApi;
+    private final Ticker ticker;
+    private final Supplier<WorkingDayIndex> fallbackWorkingDayIndex;
+    private volatile CachedIndex cachedIndex;
 
     @Autowired
     public BankHolidaysService(BankHolidaysApi bankHolidaysApi) {
-        bankHolidays = memoizeWithExpiration(() -> fetchBankHolidays(bankHolidaysApi), CACHE_HOURS, TimeUnit.HOURS);
+        this(bankHolidaysApi, Ticker.systemTicker());
+    }
+
+    BankHolidaysService(BankHolidaysApi bankHolidaysApi, Ticker ticker) {
+        this.bankHolidaysApi = bankHolidaysApi;
+        this.ticker = ticker;
+        this.fallbackWorkingDayIndex = memoize(() -> WorkingDayIndex.of(readFallbackBankHolidays()));
     }
 
     public Set<LocalDate> getBankHolidays() {
-        return bankHolidays.get();
+        return getWorkingDayIndex().getBankHolidays();
+    }
+
+    public WorkingDayIndex getWorkingDayIndex() {
+        CachedIndex cached = cachedIndex;
+
+        if (cached == null || cached.isExpired(ticker.read())) {
+            cached = refresh();
+        }
+
+        return cached.getIndex();
     }
 
-    private Set<LocalDate> fetchBankHolidays(final BankHolidaysApi bankHolidaysApi) {
+    private synchronized CachedIndex refresh() {
+        CachedIndex cached = cachedIndex;
+        long now = ticker.read();
+
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+
+        try {
+            cachedIndex = new CachedIndex(WorkingDayIndex.of(fetchBankHolidays()), true,
+                now + CACHE_PERIOD.toNanos());
+        } catch (Exception e) {
+            // bank holidays fetched before are more recent than the bundled ones
+            boolean fetchedBefore = cached != null && cached.isFetched();
+
+            log.warn("Unable to fetch bank holidays, using {} for the next {} minutes",
+                fetchedBefore ? "the ones fetched before" : FALLBACK_BANK_HOLIDAYS, RETRY_PERIOD.toMinutes(), e);
+
+            cachedIndex = new CachedIndex(fetchedBefore ? cached.getIndex() : fallbackWorkingDayIndex.get(),
+                fetchedBefore, now + RETRY_PERIOD.toNanos());
+        }
+
+        return cachedIndex;
+    }
+
+    private Set<LocalDate> fetchBankHolidays() {
         return bankHolidaysApi.retrieveAll().getEnglandAndWales().getEvents().stream()
             .map(BankHolidays.Division.Event::getDate)
             .collect(toSet());
     }
+
+    private Set<LocalDate> readFallbackBankHolidays() {
+        try {
+            JsonNode events = new ObjectMapper()
+                .readTree(ResourceReader.readString(FALLBACK_BANK_HOLIDAYS))
+                .path("england-and-wales")
+                .path("events");
+
+            return StreamSupport.stream(events.spliterator(), false)
+                .map(event -> LocalDate.parse(event.path("date").asText()))
+                .collect(toSet());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Value
+    private static class CachedIndex {
+        WorkingDayIndex index;
+        boolean fetched;
+        long expiresAtNanos;
+
+        boolean isExpired(long nanos) {
+            return nanos - expiresAtNanos >= 0;
+        }
+    }
 }
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.Set;
 
 @Service
 public class CalendarService {
@@ -16,11 +15,7 @@ public class CalendarService {
     }
 
     public boolean isWorkingDay(LocalDate date) {
-        return !isWeekend(date) && !isBankHoliday(date);
-    }
-
-    private boolean isWorkingDay(LocalDate date, Set<LocalDate> bankHolidays) {
-        return !isWeekend(date) && !bankHolidays.contains(date);
+        return bankHolidaysService.getWorkingDayIndex().isWorkingDay(date);
     }
 
     public boolean isWeekend(LocalDate date) {
@@ -29,7 +24,7 @@ public class CalendarService {
     }
 
     public boolean isBankHoliday(LocalDate date) {
-        return bankHolidaysService.getBankHolidays().contains(date);
+        return bankHolidaysService.getWorkingDayIndex().isBankHoliday(date);
     }
 
     public LocalDate getWorkingDayFrom(LocalDate fromDate, int numberOfWorkingDays) {
@@ -38,21 +33,11 @@ public class CalendarService {
             throw new IllegalArgumentException("Number of working days must not be 0.");
         }
 
-        Set<LocalDate> bankHolidays = bankHolidaysService.getBankHolidays();
-
-        int dayIncrement = Integer.signum(numberOfWorkingDays);
-        int remainingWorkingDaysToFind = Math.abs(numberOfWorkingDays);
-
-        LocalDate dateCandidate = fromDate;
-
-        while (remainingWorkingDaysToFind > 0) {
-            dateCandidate = dateCandidate.plusDays(dayIncrement);
-            if (isWorkingDay(dateCandidate, bankHolidays)) {
-                remainingWorkingDaysToFind--;
-            }
-        }
+        return bankHolidaysService.getWorkingDayIndex().addWorkingDays(fromDate, numberOfWorkingDays);
+    }
 
-        return dateCandidate;
+    public int getWorkingDaysBetween(LocalDate fromDate, LocalDate toDate) {
+        return bankHolidaysService.getWorkingDayIndex().workingDaysBetween(fromDate, toDate);
     }
 
 }
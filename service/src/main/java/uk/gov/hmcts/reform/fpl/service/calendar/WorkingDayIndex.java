@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.fpl.service.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+
+/**
+ * Maps every date in a window spanning the known bank holiday years (plus one year either side) to its working day
+ * ordinal, so that working day arithmetic within the window is a couple of array reads.
+ * Dates outside of the window fall back to walking the calendar day by day.
+ */
+public class WorkingDayIndex {
+
+    private final Set<LocalDate> bankHolidays;
+    private final LocalDate start;
+    // number of working days in [start, start + i)
+    private final int[] workingDaysBefore;
+    // offset from start of the n-th working day in the window
+    private final int[] workingDays;
+
+    public static WorkingDayIndex of(Set<LocalDate> bankHolidays) {
+        if (bankHolidays.isEmpty()) {
+            LocalDate today = LocalDate.now();
+            return new WorkingDayIndex(bankHolidays, today, today);
+        }
+
+        LocalDate first = Collections.min(bankHolidays).minusYears(1).with(firstDayOfYear());
+        LocalDate last = Collections.max(bankHolidays).plusYears(1).with(lastDayOfYear());
+
+        return new WorkingDayIndex(bankHolidays, first, last);
+    }
+
+    WorkingDayIndex(Set<LocalDate> bankHolidays, LocalDate start, LocalDate end) {
+        this.bankHolidays = Set.copyOf(bankHolidays);
+        this.start = start;
+
+        int days = (int) DAYS.between(start, end) + 1;
+        int[] offsets = new int[days];
+        int count = 0;
+
+        workingDaysBefore = new int[days + 1];
+        for (int offset = 0; offset < days; offset++) {
+            workingDaysBefore[offset] = count;
+            if (isWorkingDay(start.plusDays(offset))) {
+                offsets[count++] = offset;
+            }
+        }
+        workingDaysBefore[days] = count;
+        workingDays = Arrays.copyOf(offsets, count);
+    }
+
+    public Set<LocalDate> getBankHolidays() {
+        return bankHolidays;
+    }
+
+    public boolean isBankHoliday(LocalDate date) {
+        return bankHolidays.contains(date);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY && !isBankHoliday(date);
+    }
+
+    /**
+     * Returns the n-th working day after (or before, when negative) the given date, the date itself excluded.
+     */
+    public LocalDate addWorkingDays(LocalDate fromDate, int numberOfWorkingDays) {
+        if (numberOfWorkingDays == 0) {
+            return fromDate;
+        }
+
+        int offset = offsetOf(fromDate);
+
+        if (offset >= 0) {
+            int ordinal = numberOfWorkingDays > 0
+                ? workingDaysBefore[offset + 1] + numberOfWorkingDays - 1
+                : workingDaysBefore[offset] + numberOfWorkingDays;
+
+            if (ordinal >= 0 && ordinal < workingDays.length) {
+                return start.plusDays(workingDays[ordinal]);
+            }
+        }
+
+        return walkWorkingDays(fromDate, numberOfWorkingDays);
+    }
+
+    /**
+     * Returns the number of working days after the from date up to and including the to date, or minus the number of
+     * working days before the from date down to and including the to date, so that it is the inverse of
+     * {@link #addWorkingDays(LocalDate, int)}.
+     */
+    public int workingDaysBetween(LocalDate fromDate, LocalDate toDate) {
+        int fromOffset = offsetOf(fromDate);
+        int toOffset = offsetOf(toDate);
+
+        if (fromOffset >= 0 && toOffset >= 0) {
+            return toDate.isBefore(fromDate)
+                ? workingDaysBefore[toOffset] - workingDaysBefore[fromOffset]
+                : workingDaysBefore[toOffset + 1] - workingDaysBefore[fromOffset + 1];
+        }
+
+        return countWorkingDays(fromDate, toDate);
+    }
+
+    private int offsetOf(LocalDate date) {
+        long offset = DAYS.between(start, date);
+        return offset >= 0 && offset < workingDaysBefore.length - 1 ? (int) offset : -1;
+    }
+
+    private LocalDate walkWorkingDays(LocalDate fromDate, int numberOfWorkingDays) {
+        int dayIncrement = Integer.signum(numberOfWorkingDays);
+        int remainingWorkingDaysToFind = Math.abs(numberOfWorkingDays);
+
+        LocalDate dateCandidate = fromDate;
+
+        while (remainingWorkingDaysToFind > 0) {
+            dateCandidate = dateCandidate.plusDays(dayIncrement);
+            if (isWorkingDay(dateCandidate)) {
+                remainingWorkingDaysToFind--;
+            }
+        }
+
+        return dateCandidate;
+    }
+
+    private int countWorkingDays(LocalDate fromDate, LocalDate toDate) {
+        int dayIncrement = toDate.isBefore(fromDate) ? -1 : 1;
+        int count = 0;
+
+        LocalDate date = fromDate;
+
+        while (!date.equals(toDate)) {
+            date = date.plusDays(dayIncrement);
+            if (isWorkingDay(date)) {
+                count += dayIncrement;
+            }
+        }
+
+        return count;
+    }
+}
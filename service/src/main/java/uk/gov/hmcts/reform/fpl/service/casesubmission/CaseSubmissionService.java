@@ -1,31 +1,74 @@
 package uk.gov.hmcts.reform.fpl.service.casesubmission;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.document.domain.Document;
 import uk.gov.hmcts.reform.fpl.enums.docmosis.RenderFormat;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
-import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
 import uk.gov.hmcts.reform.fpl.model.configuration.Language;
 import uk.gov.hmcts.reform.fpl.model.docmosis.DocmosisCaseSubmission;
 import uk.gov.hmcts.reform.fpl.service.UploadDocumentService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.CaseSubmissionGenerationService;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisDocumentGeneratorService;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static uk.gov.hmcts.reform.fpl.enums.DocmosisTemplates.C110A;
 import static uk.gov.hmcts.reform.fpl.utils.SubmittedFormFilenameHelper.buildFileName;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class CaseSubmissionService {
     private final DocmosisDocumentGeneratorService docmosisDocumentGeneratorService;
     private final UploadDocumentService uploadDocumentService;
     private final CaseSubmissionGenerationService documentGenerationService;
+    private final ObjectMapper mapper;
+    private final Cache<String, byte[]> renderedForms;
+
+    @Autowired
+    public CaseSubmissionService(DocmosisDocumentGeneratorService docmosisDocumentGeneratorService,
+                                 UploadDocumentService uploadDocumentService,
+                                 CaseSubmissionGenerationService documentGenerationService,
+                                 ObjectMapper mapper,
+                                 @Value("${caseSubmission.renderCache.ttlMinutes:60}") long ttlMinutes,
+                                 @Value("${caseSubmission.renderCache.maxMegabytes:100}") long maxMegabytes) {
+        this.docmosisDocumentGeneratorService = docmosisDocumentGeneratorService;
+        this.uploadDocumentService = uploadDocumentService;
+        this.documentGenerationService = documentGenerationService;
+        this.mapper = mapper;
+        this.renderedForms = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .maximumWeight(maxMegabytes * 1024 * 1024)
+            .<String, byte[]>weigher((digest, bytes) -> bytes.length)
+            .build();
+    }
 
     public Document generateSubmittedFormPDF(final CaseData caseData, final boolean isDraft) {
+        byte[] form = renderSubmittedForm(caseData, isDraft);
+
+        return uploadDocumentService.uploadPDF(form, buildFileName(caseData, isDraft));
+    }
+
+    public String getSigneeName(CaseData caseData) {
+        return documentGenerationService.getSigneeName(caseData);
+    }
+
+    /**
+     * Forms are cached by each instance, keyed by a digest of their template data. Only the draft shown when the case
+     * submission event starts is rendered again for an unchanged case, when the user comes back to the event, and the
+     * load balancer sends that request to the same instance about once in every replicas, so few renders are saved.
+     */
+    private byte[] renderSubmittedForm(final CaseData caseData, final boolean isDraft) {
         DocmosisCaseSubmission submittedCase = documentGenerationService.getTemplateData(caseData);
 
         documentGenerationService.populateCaseNumber(submittedCase, caseData.getId());
@@ -33,15 +76,30 @@ public class CaseSubmissionService {
         Language applicationLanguage = Optional.ofNullable(caseData.getC110A().getLanguageRequirementApplication())
             .orElse(Language.ENGLISH);
 
-        DocmosisDocument document = docmosisDocumentGeneratorService.generateDocmosisDocument(submittedCase,
+        String digest = digest(submittedCase, applicationLanguage);
+        byte[] form = renderedForms.getIfPresent(digest);
+
+        if (form != null) {
+            log.debug("Reusing submitted form rendered for unchanged case {}", caseData.getId());
+            return form;
+        }
+
+        form = docmosisDocumentGeneratorService.generateDocmosisDocument(submittedCase,
             C110A,
             RenderFormat.PDF,
-            applicationLanguage);
+            applicationLanguage).getBytes();
+        renderedForms.put(digest, form);
 
-        return uploadDocumentService.uploadPDF(document.getBytes(), buildFileName(caseData, isDraft));
+        return form;
     }
 
-    public String getSigneeName(CaseData caseData) {
-        return documentGenerationService.getSigneeName(caseData);
+    private String digest(DocmosisCaseSubmission submittedCase, Language language) {
+        Hasher hasher = Hashing.sha256().newHasher().putString(language.name(), UTF_8);
+
+        try {
+            return hasher.putBytes(mapper.writeValueAsBytes(submittedCase)).hash().toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialise submitted form template data", e);
+        }
     }
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.enums.HearingType;
 import uk.gov.hmcts.reform.fpl.enums.State;
 import uk.gov.hmcts.reform.fpl.exceptions.CMONotFoundException;
+import uk.gov.hmcts.reform.fpl.exceptions.OrdersSealingTimeoutException;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.HearingBooking;
 import uk.gov.hmcts.reform.fpl.model.Other;
@@ -17,13 +18,19 @@ import uk.gov.hmcts.reform.fpl.model.order.HearingOrder;
 import uk.gov.hmcts.reform.fpl.model.order.HearingOrdersBundle;
 import uk.gov.hmcts.reform.fpl.model.order.generated.GeneratedOrder;
 import uk.gov.hmcts.reform.fpl.service.OthersService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner.Outcome;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -48,8 +55,13 @@ public class ApproveDraftOrdersService {
     private final BlankOrderGenerator blankOrderGenerator;
     private final HearingOrderGenerator hearingOrderGenerator;
     private final OthersService othersService;
+    private final ParallelTaskRunner parallelTaskRunner;
 
     private static final String ORDERS_TO_BE_SENT = "ordersToBeSent";
+    private static final int MAX_CONCURRENT_SEALS = 4;
+    // leaves time for the rest of the callback before CCD gives up on it, seals still running at the deadline are
+    // interrupted and the deadline applies to seals that overflow a saturated parallel task pool too
+    private static final Duration SEALING_DEADLINE = Duration.ofSeconds(40);
     private static final String NUM_DRAFT_CMOS = "numDraftCMOs";
 
     /**
@@ -235,35 +247,39 @@ public class ApproveDraftOrdersService {
         List<Element<HearingOrder>> ordersToBeSent = defaultIfNull((
             List<Element<HearingOrder>>) data.get(ORDERS_TO_BE_SENT), newArrayList());
 
+        Map<Element<HearingOrder>, ReviewDecision> reviewDecisions = new LinkedHashMap<>();
         int counter = 1;
-        List<Element<GeneratedOrder>> orderCollection = caseData.getOrderCollection();
 
         for (Element<HearingOrder> orderElement : draftOrders) {
             Map<String, Object> reviewDecisionMap = (Map<String, Object>) data.get("reviewDecision" + counter);
             ReviewDecision reviewDecision = mapper.convertValue(reviewDecisionMap, ReviewDecision.class);
 
             if (reviewDecision != null && reviewDecision.getDecision() != null) {
-                Element<HearingOrder> reviewedOrder;
+                reviewDecisions.put(orderElement, reviewDecision);
+            }
+            counter++;
+        }
 
-                if (!JUDGE_REQUESTED_CHANGES.equals(reviewDecision.getDecision())) {
-                    List<Element<Other>> selectedOthers = othersService.getSelectedOthers(caseData.getAllOthers(),
-                        caseData.getOthersSelector(), NO.getValue());
+        List<Element<Other>> selectedOthers = othersService.getSelectedOthers(caseData.getAllOthers(),
+            caseData.getOthersSelector(), NO.getValue());
+        Map<Element<HearingOrder>, Element<HearingOrder>> sealedOrders = sealApprovedOrders(caseData, reviewDecisions,
+            selectedOthers);
 
-                    reviewedOrder = hearingOrderGenerator.buildSealedHearingOrder(
-                        reviewDecision, orderElement, selectedOthers, getOthersNotified(selectedOthers),
-                        caseData.getSealType());
-                    orderCollection.add(blankOrderGenerator.buildBlankOrder(caseData,
-                        selectedOrdersBundle, reviewedOrder, selectedOthers, getOthersNotified(selectedOthers)));
+        List<Element<GeneratedOrder>> orderCollection = caseData.getOrderCollection();
 
-                    ordersToBeSent.add(reviewedOrder);
-                } else {
-                    ordersToBeSent.add(hearingOrderGenerator.buildRejectedHearingOrder(
-                        orderElement, reviewDecision.getChangesRequestedByJudge()));
-                }
-                selectedOrdersBundle.getValue().getOrders().remove(orderElement);
+        reviewDecisions.forEach((orderElement, reviewDecision) -> {
+            if (sealedOrders.containsKey(orderElement)) {
+                Element<HearingOrder> reviewedOrder = sealedOrders.get(orderElement);
+                orderCollection.add(blankOrderGenerator.buildBlankOrder(caseData,
+                    selectedOrdersBundle, reviewedOrder, selectedOthers, getOthersNotified(selectedOthers)));
+
+                ordersToBeSent.add(reviewedOrder);
+            } else {
+                ordersToBeSent.add(hearingOrderGenerator.buildRejectedHearingOrder(
+                    orderElement, reviewDecision.getChangesRequestedByJudge()));
             }
-            counter++;
-        }
+            selectedOrdersBundle.getValue().getOrders().remove(orderElement);
+        });
 
         if (ordersToBeSent.isEmpty()) {
             data.remove(ORDERS_TO_BE_SENT);
@@ -276,6 +292,49 @@ public class ApproveDraftOrdersService {
         data.put("hearingOrdersBundlesDrafts", caseData.getHearingOrdersBundlesDrafts());
     }
 
+    private Map<Element<HearingOrder>, Element<HearingOrder>> sealApprovedOrders(
+        CaseData caseData, Map<Element<HearingOrder>, ReviewDecision> reviewDecisions,
+        List<Element<Other>> selectedOthers) {
+
+        List<Element<HearingOrder>> approvedOrders = reviewDecisions.entrySet().stream()
+            .filter(reviewDecision -> !JUDGE_REQUESTED_CHANGES.equals(reviewDecision.getValue().getDecision()))
+            .map(Map.Entry::getKey)
+            .collect(toList());
+
+        if (approvedOrders.isEmpty()) {
+            return Map.of();
+        }
+
+        String othersNotified = getOthersNotified(selectedOthers);
+        Instant deadline = Instant.now().plus(SEALING_DEADLINE);
+
+        List<Outcome<Element<HearingOrder>>> outcomes = parallelTaskRunner.mapEachBefore(approvedOrders,
+            order -> hearingOrderGenerator.buildSealedHearingOrder(reviewDecisions.get(order), order, selectedOthers,
+                othersNotified, caseData.getSealType()),
+            MAX_CONCURRENT_SEALS, deadline);
+
+        Map<Element<HearingOrder>, Element<HearingOrder>> sealedOrders = new LinkedHashMap<>();
+
+        for (int i = 0; i < approvedOrders.size(); i++) {
+            Outcome<Element<HearingOrder>> outcome = outcomes.get(i);
+
+            if (outcome.getFailure() instanceof TimeoutException) {
+                throw new OrdersSealingTimeoutException(String.format("Sealing %d approved orders for case %s "
+                    + "did not finish within %s", approvedOrders.size(), caseData.getId(), SEALING_DEADLINE));
+            }
+            if (outcome.getFailure() instanceof RuntimeException) {
+                throw (RuntimeException) outcome.getFailure();
+            }
+            if (!outcome.isSuccess()) {
+                throw new IllegalStateException("Failed to seal approved order", outcome.getFailure());
+            }
+
+            sealedOrders.put(approvedOrders.get(i), outcome.getValue());
+        }
+
+        return sealedOrders;
+    }
+
     private void updateHearingDraftOrdersBundle(CaseData caseData, Element<HearingOrdersBundle> selectedOrdersBundle) {
         if (selectedOrdersBundle.getValue().getOrders().isEmpty()) {
             caseData.getHearingOrdersBundlesDrafts()
@@ -30,11 +30,24 @@ public class DocumentGenerator {
                                              DocmosisParameterGenerator docmosisParameterGenerator,
                                              RenderFormat format,
                                              OrderStatus orderStatus) {
+        Map<String, Object> templateData = generateTemplateData(caseData, docmosisParameterGenerator, orderStatus);
+
+        return generateDocument(templateData, docmosisParameterGenerator, format);
+    }
+
+    public Map<String, Object> generateTemplateData(CaseData caseData,
+                                                    DocmosisParameterGenerator docmosisParameterGenerator,
+                                                    OrderStatus orderStatus) {
         DocmosisParameters customParameters = docmosisParameterGenerator.generate(caseData);
         DocmosisParameters docmosisParameters =
             decorator.decorate(customParameters, caseData, orderStatus, docmosisParameterGenerator.accept());
-        Map<String, Object> templateData = caseConverter.toMap(docmosisParameters);
 
+        return caseConverter.toMap(docmosisParameters);
+    }
+
+    public DocmosisDocument generateDocument(Map<String, Object> templateData,
+                                             DocmosisParameterGenerator docmosisParameterGenerator,
+                                             RenderFormat format) {
         return docmosisDocumentGeneratorService.generateDocmosisDocument(
             templateData, docmosisParameterGenerator.template(), format, Language.ENGLISH
         );
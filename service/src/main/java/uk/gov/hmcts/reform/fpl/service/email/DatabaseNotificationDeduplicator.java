@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+/**
+ * De-duplicates notifications across all instances of the service using the scheduler database.
+ */
+@Component
+@ConditionalOnProperty(value = "notify.deduplication.store", havingValue = "database")
+public class DatabaseNotificationDeduplicator implements NotificationDeduplicator {
+
+    private static final int CLAIMS_BETWEEN_CLEANUPS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long windowMinutes;
+    private final AtomicLong claims = new AtomicLong();
+
+    @Autowired
+    public DatabaseNotificationDeduplicator(DataSource dataSource,
+                                            @Value("${notify.deduplication.windowMinutes:0}") long windowMinutes) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.windowMinutes = windowMinutes;
+    }
+
+    @Override
+    public boolean claim(String key) {
+        if (windowMinutes <= 0) {
+            return true;
+        }
+
+        if (claims.incrementAndGet() % CLAIMS_BETWEEN_CLEANUPS == 0) {
+            jdbcTemplate.update("DELETE FROM sent_notifications WHERE sent_at < now() - ? * interval '1 minute'",
+                windowMinutes);
+        }
+
+        // a single statement so that two instances claiming the same notification cannot both succeed
+        return jdbcTemplate.update("INSERT INTO sent_notifications (notification_key, sent_at) VALUES (?, now()) "
+                + "ON CONFLICT (notification_key) DO UPDATE SET sent_at = now() "
+                + "WHERE sent_notifications.sent_at < now() - ? * interval '1 minute'",
+            key, windowMinutes) > 0;
+    }
+
+    @Override
+    public void release(String key) {
+        if (windowMinutes <= 0) {
+            return;
+        }
+
+        jdbcTemplate.update("DELETE FROM sent_notifications WHERE notification_key = ?", key);
+    }
+}
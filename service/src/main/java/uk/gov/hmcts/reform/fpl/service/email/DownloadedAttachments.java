@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import uk.gov.hmcts.reform.fpl.model.email.EmailAttachment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Attachments downloaded by {@link EmailAttachmentDownloader}, closing them deletes the ones held in temporary files.
+ */
+@Slf4j
+public class DownloadedAttachments implements AutoCloseable {
+
+    private final Set<EmailAttachment> attachments;
+
+    DownloadedAttachments(List<EmailAttachment> attachments) {
+        this.attachments = new LinkedHashSet<>(attachments);
+    }
+
+    public Set<EmailAttachment> getAttachments() {
+        return attachments;
+    }
+
+    @Override
+    public void close() {
+        attachments.stream()
+            .filter(attachment -> attachment.getData() instanceof FileSystemResource)
+            .map(attachment -> ((FileSystemResource) attachment.getData()).getFile().toPath())
+            .forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Failed to delete temporary email attachment {}", file, e);
+                }
+            });
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.model.email.EmailAttachment;
+import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner.Outcome;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+import static uk.gov.hmcts.reform.fpl.model.email.EmailAttachment.document;
+
+/**
+ * Downloads documents to be attached to an email. Documents are downloaded in parallel and kept in memory up to
+ * the in memory budget, the remaining ones are written to temporary files which are deleted when the returned
+ * attachments are closed.
+ */
+@Slf4j
+@Service
+public class EmailAttachmentDownloader {
+
+    private static final int MAX_CONCURRENT_DOWNLOADS = 4;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final DocumentDownloadService documentDownloadService;
+    private final ParallelTaskRunner parallelTaskRunner;
+    private final long maxInMemoryBytes;
+
+    @Autowired
+    public EmailAttachmentDownloader(
+        DocumentDownloadService documentDownloadService,
+        ParallelTaskRunner parallelTaskRunner,
+        @Value("${emailAttachments.maxInMemoryMegabytes:20}") long maxInMemoryMegabytes) {
+        this.documentDownloadService = documentDownloadService;
+        this.parallelTaskRunner = parallelTaskRunner;
+        this.maxInMemoryBytes = maxInMemoryMegabytes * BYTES_PER_MEGABYTE;
+    }
+
+    public DownloadedAttachments download(Collection<DocumentReference> documents) {
+        AtomicLong inMemoryBytes = new AtomicLong();
+
+        List<Outcome<EmailAttachment>> outcomes = parallelTaskRunner.mapEach(new ArrayList<>(documents),
+            document -> download(document, inMemoryBytes), MAX_CONCURRENT_DOWNLOADS, null);
+
+        List<EmailAttachment> attachments = new ArrayList<>();
+        Throwable failure = null;
+
+        for (Outcome<EmailAttachment> outcome : outcomes) {
+            if (outcome.isSuccess()) {
+                attachments.add(outcome.getValue());
+            } else if (failure == null) {
+                failure = outcome.getFailure();
+            }
+        }
+
+        DownloadedAttachments downloadedAttachments = new DownloadedAttachments(attachments);
+
+        if (failure != null) {
+            downloadedAttachments.close();
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw new IllegalStateException("Failed to download email attachments", failure);
+        }
+
+        return downloadedAttachments;
+    }
+
+    private EmailAttachment download(DocumentReference document, AtomicLong inMemoryBytes) {
+        byte[] content = documentDownloadService.downloadDocument(document.getBinaryUrl());
+        String contentType = defaultIfNull(URLConnection.guessContentTypeFromName(document.getFilename()),
+            "application/octet-stream");
+
+        if (inMemoryBytes.addAndGet(content.length) <= maxInMemoryBytes) {
+            return document(contentType, content, document.getFilename());
+        }
+
+        inMemoryBytes.addAndGet(-content.length);
+        log.debug("Email attachment {} over in memory budget, writing to temporary file", document.getFilename());
+
+        return document(contentType, writeToTemporaryFile(content), document.getFilename());
+    }
+
+    private static Path writeToTemporaryFile(byte[] content) {
+        try {
+            Path file = Files.createTempFile("email-attachment", null);
+            return Files.write(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package uk.gov.hmcts.reform.fpl.service.email;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -10,16 +13,87 @@ import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
 import uk.gov.hmcts.reform.fpl.model.email.EmailAttachment;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 
+import static java.util.Collections.emptyList;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class EmailService {
 
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
     private final JavaMailSender mailSender;
+    private final long maxAttachmentsBytes;
 
+    @Autowired
+    public EmailService(JavaMailSender mailSender,
+                        @Value("${emailAttachments.maxEmailMegabytes:20}") long maxEmailMegabytes) {
+        this.mailSender = mailSender;
+        this.maxAttachmentsBytes = maxEmailMegabytes * BYTES_PER_MEGABYTE;
+    }
+
+    /**
+     * Sends the email, when attachments are over the size limit they are split across several emails, each one
+     * with the part number in its subject.
+     */
     public void sendEmail(final String from, final EmailData emailData) {
+        send(createMessages(from, emailData));
+    }
+
+    /**
+     * Sends the emails over a single mail server connection, splitting attachments as {@link #sendEmail} does.
+     */
+    public void sendEmails(final String from, final List<EmailData> emailsData) {
+        if (emailsData.isEmpty()) {
+            return;
+        }
+
+        List<MimeMessage> messages = new ArrayList<>();
+        for (EmailData emailData : emailsData) {
+            messages.addAll(createMessages(from, emailData));
+        }
+
+        long start = System.currentTimeMillis();
+        send(messages);
+        log.info("Sent batch of {} emails in {} ms", messages.size(), System.currentTimeMillis() - start);
+    }
+
+    private void send(List<MimeMessage> messages) {
+        try {
+            if (messages.size() == 1) {
+                mailSender.send(messages.get(0));
+            } else {
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+            }
+        } catch (MailException e) {
+            throw new EmailFailedSendException(e);
+        }
+    }
+
+    private List<MimeMessage> createMessages(String from, EmailData emailData) {
+        List<List<EmailAttachment>> parts = splitAttachments(emailData);
+
+        if (parts.size() == 1) {
+            return List.of(createMessage(from, emailData, emailData.getSubject(), parts.get(0)));
+        }
+
+        log.info("Attachments of email {} split into {} emails", emailData.getSubject(), parts.size());
+
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int part = 0; part < parts.size(); part++) {
+            String subject = String.format("%s (part %d of %d)", emailData.getSubject(), part + 1, parts.size());
+            messages.add(createMessage(from, emailData, subject, parts.get(part)));
+        }
+        return messages;
+    }
+
+    private MimeMessage createMessage(String from, EmailData emailData, String subject,
+                                      List<EmailAttachment> attachments) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
 
@@ -27,21 +101,59 @@ public class EmailService {
 
             mimeMessageHelper.setTo(emailData.getRecipient());
             mimeMessageHelper.setFrom(from);
-            mimeMessageHelper.setSubject(emailData.getSubject());
+            mimeMessageHelper.setSubject(subject);
             mimeMessageHelper.setText(emailData.getMessage());
 
-            if (emailData.hasAttachments()) {
-                // preferring for loop here so we don't have to catch exceptions twice
-                for (EmailAttachment attachment : emailData.getAttachments()) {
-                    mimeMessageHelper.addAttachment(attachment.getFilename(),
-                        attachment.getData(), attachment.getContentType());
-                }
+            // preferring for loop here so we don't have to catch exceptions twice
+            for (EmailAttachment attachment : attachments) {
+                mimeMessageHelper.addAttachment(attachment.getFilename(),
+                    attachment.getData(), attachment.getContentType());
             }
 
-            mailSender.send(message);
+            return message;
 
-        } catch (MessagingException | MailException e) {
+        } catch (MessagingException e) {
             throw new EmailFailedSendException(e);
         }
     }
+
+    private List<List<EmailAttachment>> splitAttachments(EmailData emailData) {
+        List<List<EmailAttachment>> parts = new ArrayList<>();
+
+        if (!emailData.hasAttachments()) {
+            parts.add(emptyList());
+            return parts;
+        }
+
+        List<EmailAttachment> part = new ArrayList<>();
+        long partSize = 0;
+
+        for (EmailAttachment attachment : emailData.getAttachments()) {
+            long size = sizeOf(attachment.getData());
+
+            // an attachment larger than the limit still goes out, in an email of its own
+            if (!part.isEmpty() && partSize + size > maxAttachmentsBytes) {
+                parts.add(part);
+                part = new ArrayList<>();
+                partSize = 0;
+            }
+
+            part.add(attachment);
+            partSize += size;
+        }
+
+        parts.add(part);
+        return parts;
+    }
+
+    private static long sizeOf(InputStreamSource data) {
+        if (data instanceof Resource) {
+            try {
+                return ((Resource) data).contentLength();
+            } catch (IOException e) {
+                log.warn("Unable to determine size of email attachment", e);
+            }
+        }
+        return 0;
+    }
 }
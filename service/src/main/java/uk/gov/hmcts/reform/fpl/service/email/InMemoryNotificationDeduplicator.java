@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+@ConditionalOnProperty(value = "notify.deduplication.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationDeduplicator implements NotificationDeduplicator {
+
+    private final Cache<String, Instant> sent;
+
+    @Autowired
+    public InMemoryNotificationDeduplicator(@Value("${notify.deduplication.windowMinutes:0}") long windowMinutes,
+                                            @Value("${notify.deduplication.maxEntries:10000}") long maxEntries) {
+        this.sent = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(windowMinutes))
+            .maximumSize(maxEntries)
+            .build();
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return sent.asMap().putIfAbsent(key, Instant.now()) == null;
+    }
+
+    @Override
+    public void release(String key) {
+        sent.invalidate(key);
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+/**
+ * Remembers recently sent notifications so the same email is not sent twice within the de-duplication window.
+ */
+public interface NotificationDeduplicator {
+
+    /**
+     * Claims the notification for sending.
+     *
+     * @return false when the same notification was already claimed within the window
+     */
+    boolean claim(String key);
+
+    /**
+     * Releases a claim when sending failed, so the notification can be sent again.
+     */
+    void release(String key);
+}
@@ -2,17 +2,25 @@ package uk.gov.hmcts.reform.fpl.service.email;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.model.notify.NotifyData;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
+import static java.util.stream.Collectors.toList;
 import static uk.gov.hmcts.reform.fpl.utils.MaskHelper.maskEmail;
 
 @Slf4j
@@ -20,32 +28,72 @@ import static uk.gov.hmcts.reform.fpl.utils.MaskHelper.maskEmail;
 public class NotificationService {
     public static final String SEPARATOR = "/";
 
+    private static final int MAX_CONCURRENT_EMAILS = 4;
+    private static final int TOO_MANY_REQUESTS = 429;
+
     private final NotificationClient notificationClient;
     private final ObjectMapper mapper;
     private final String environment;
+    private final ParallelTaskRunner parallelTaskRunner;
+    private final RateLimiter rateLimiter;
+    private final NotificationDeduplicator deduplicator;
+    private final MeterRegistry meterRegistry;
+    private final int rateLimitedRetries;
+    private final long rateLimitedBackoffMillis;
 
     @Autowired
+    @SuppressWarnings("java:S107")
     public NotificationService(NotificationClient notificationClient,
                                ObjectMapper mapper,
-                               @Value("${fpl.env}") String environment) {
+                               @Value("${fpl.env}") String environment,
+                               ParallelTaskRunner parallelTaskRunner,
+                               @Value("${notify.rateLimitPerSecond:50}") double rateLimitPerSecond,
+                               @Value("${notify.replicas:1}") int replicas,
+                               @Value("${notify.maxEmailsPerSecond:0}") double maxEmailsPerSecond,
+                               @Value("${notify.rateLimited.retries:3}") int rateLimitedRetries,
+                               @Value("${notify.rateLimited.backoffMillis:1000}") long rateLimitedBackoffMillis,
+                               NotificationDeduplicator deduplicator,
+                               MeterRegistry meterRegistry) {
         this.notificationClient = notificationClient;
         this.mapper = mapper;
         this.environment = environment;
+        this.parallelTaskRunner = parallelTaskRunner;
+        this.deduplicator = deduplicator;
+        this.meterRegistry = meterRegistry;
+        this.rateLimitedRetries = rateLimitedRetries;
+        this.rateLimitedBackoffMillis = rateLimitedBackoffMillis;
+        // the rate limiter only covers this instance, while the GOV.UK Notify rate limit applies to the api key that
+        // every instance shares, so unless set explicitly each instance takes its share of the limit
+        this.rateLimiter = RateLimiter.create(maxEmailsPerSecond > 0
+            ? maxEmailsPerSecond : rateLimitPerSecond / Math.max(1, replicas));
     }
 
     public void sendEmail(String templateId, String recipient, NotifyData data, String reference) {
-        Map<String, Object> personalisation = mapper.convertValue(data, new TypeReference<>() {
-        });
-        log.debug("Sending email (with template id: {}) to {}", templateId, maskEmail(recipient));
-        try {
-            notificationClient.sendEmail(templateId, recipient, personalisation, environment + SEPARATOR + reference);
-        } catch (NotificationClientException e) {
-            log.error("Failed to send email (with template id: {}) to {}", templateId, maskEmail(recipient), e);
-        }
+        send(templateId, recipient, toPersonalisation(data), reference);
     }
 
+    /**
+     * Sends the email to every distinct recipient, several at a time, building the personalisation only once.
+     */
     public void sendEmail(String templateId, Collection<String> emails, NotifyData data, String reference) {
-        emails.stream().distinct().forEach(email -> sendEmail(templateId, email, data, reference));
+        List<String> recipients = emails.stream().distinct().collect(toList());
+
+        if (recipients.size() <= 1) {
+            recipients.forEach(recipient -> sendEmail(templateId, recipient, data, reference));
+            return;
+        }
+
+        Map<String, Object> personalisation = toPersonalisation(data);
+        long start = System.currentTimeMillis();
+
+        long failures = parallelTaskRunner.mapEach(recipients,
+            recipient -> send(templateId, recipient, personalisation, reference), MAX_CONCURRENT_EMAILS, null)
+            .stream()
+            .filter(outcome -> !outcome.isSuccess() || !outcome.getValue())
+            .count();
+
+        log.info("Sent email (with template id: {}) to {} recipients in {} ms, {} failed", templateId,
+            recipients.size(), System.currentTimeMillis() - start, failures);
     }
 
     public void sendEmail(String templateId, Collection<String> emails, NotifyData data, Long reference) {
@@ -55,4 +103,76 @@ public class NotificationService {
     public void sendEmail(String templateId, String recipient, NotifyData data, Long reference) {
         sendEmail(templateId, recipient, data, reference.toString());
     }
+
+    private Map<String, Object> toPersonalisation(NotifyData data) {
+        return mapper.convertValue(data, new TypeReference<>() {
+        });
+    }
+
+    private boolean send(String templateId, String recipient, Map<String, Object> personalisation,
+                         String reference) {
+        String key = deduplicationKey(templateId, recipient, personalisation, reference);
+        if (!deduplicator.claim(key)) {
+            log.info("Skipping duplicate email (with template id: {}) to {}", templateId, maskEmail(recipient));
+            return true;
+        }
+
+        boolean sent = false;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            log.debug("Sending email (with template id: {}) to {}", templateId, maskEmail(recipient));
+            sendRetryingWhenRateLimited(templateId, recipient, personalisation, reference);
+            sent = true;
+        } catch (NotificationClientException e) {
+            log.error("Failed to send email (with template id: {}) to {}", templateId, maskEmail(recipient), e);
+        } finally {
+            sample.stop(meterRegistry.timer("notify.emails", "templateId", templateId));
+            // whatever stopped the email, a retry of it must not be skipped as a duplicate
+            if (!sent) {
+                meterRegistry.counter("notify.emails.failed", "templateId", templateId).increment();
+                deduplicator.release(key);
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Sends the email, backing off exponentially while Notify rejects it for going over the rate limit, which the rate
+     * limiter of each instance cannot prevent when notify.replicas does not match the replicas actually running.
+     */
+    private void sendRetryingWhenRateLimited(String templateId, String recipient, Map<String, Object> personalisation,
+                                             String reference) throws NotificationClientException {
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire();
+            try {
+                notificationClient.sendEmail(templateId, recipient, personalisation,
+                    environment + SEPARATOR + reference);
+                return;
+            } catch (NotificationClientException e) {
+                if (e.getHttpResult() != TOO_MANY_REQUESTS || attempt >= rateLimitedRetries) {
+                    throw e;
+                }
+                long backoff = rateLimitedBackoffMillis << attempt;
+                log.warn("Notify rate limit exceeded sending email (with template id: {}), retrying in {} ms",
+                    templateId, backoff);
+                meterRegistry.counter("notify.emails.rate.limited", "templateId", templateId).increment();
+                sleep(backoff, e);
+            }
+        }
+    }
+
+    private static void sleep(long millis, NotificationClientException cause) throws NotificationClientException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private static String deduplicationKey(String templateId, String recipient, Map<String, Object> personalisation,
+                                           String reference) {
+        return Hashing.sha256().hashString(String.join(SEPARATOR, templateId, recipient, reference,
+            personalisation.toString()), StandardCharsets.UTF_8).toString();
+    }
 }
@@ -10,7 +10,13 @@ import java.util.stream.Stream;
 @Component
 public class ManageOrderDocumentScopedFieldsCalculator {
 
+    private static final List<String> FIELDS = scopedFields();
+
     public List<String> calculate() {
+        return FIELDS;
+    }
+
+    private static List<String> scopedFields() {
         List<String> fields = Stream.of(Order.values())
             .flatMap(order -> order.getQuestionsBlocks().stream())
             .flatMap(questionBlock -> questionBlock.getTransientDataFields().stream())
@@ -33,6 +39,6 @@ public class ManageOrderDocumentScopedFieldsCalculator {
             "orderDetailsSectionSubHeader"
         ));
 
-        return fields;
+        return List.copyOf(fields);
     }
 }
@@ -15,6 +15,10 @@ import uk.gov.hmcts.reform.fpl.service.UploadDocumentService;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.OrderDocumentGenerator;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.OrderDocumentGeneratorResult;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.UploadedOrderDocumentGenerator;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreviewStore;
+
+import java.util.Arrays;
+import java.util.Map;
 
 import static uk.gov.hmcts.reform.fpl.enums.OrderStatus.DRAFT;
 
@@ -26,8 +30,13 @@ public class OrderCreationService {
     private final OrderDocumentGenerator orderGenerator;
     private final UploadedOrderDocumentGenerator uploadedOrderGenerator;
     private final UploadDocumentService uploadService;
+    private final DraftOrderPreviewStore previewStore;
 
     public DocumentReference createOrderDocument(CaseData caseData, OrderStatus status, RenderFormat format) {
+        if (status == DRAFT && previewStore.isEnabled()) {
+            return createPreview(caseData, format);
+        }
+
         ManageOrdersEventData manageOrdersEventData = caseData.getManageOrdersEventData();
         Order orderType = manageOrdersEventData.getManageOrdersType();
 
@@ -45,6 +54,26 @@ public class OrderCreationService {
         return DocumentReference.buildFromDocument(document);
     }
 
+    private DocumentReference createPreview(CaseData caseData, RenderFormat format) {
+        Order orderType = caseData.getManageOrdersEventData().getManageOrdersType();
+
+        if (OrderSourceType.MANUAL_UPLOAD == orderType.getSourceType()) {
+            DocumentReference uploadedOrder = caseData.getManageOrdersEventData().getManageOrdersUploadOrderFile();
+
+            return previewStore.getOrGenerate(caseData.getId(), Arrays.asList(orderType, format, uploadedOrder),
+                DRAFT_ORDER_NAME, () -> uploadedOrderGenerator.generate(caseData, DRAFT, format));
+        }
+
+        // only the template data is built up front, rendering is skipped when it has not changed since the last preview
+        Map<String, Object> templateData = orderGenerator.generateTemplateData(orderType, caseData, DRAFT);
+
+        return previewStore.getOrGenerate(caseData.getId(), Arrays.asList(orderType, format, templateData),
+            DRAFT_ORDER_NAME, () -> OrderDocumentGeneratorResult.builder()
+                .bytes(orderGenerator.generate(orderType, templateData, format).getBytes())
+                .renderFormat(format)
+                .build());
+    }
+
     private OrderDocumentGeneratorResult generateContent(CaseData caseData, OrderStatus status, RenderFormat format,
                                                          Order orderType) {
 
@@ -1,36 +1,39 @@
 package uk.gov.hmcts.reform.fpl.service.orders;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.fpl.model.order.IsFinalOrder;
 import uk.gov.hmcts.reform.fpl.model.order.Order;
 import uk.gov.hmcts.reform.fpl.model.order.OrderQuestionBlock;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 @Component
 public class OrderShowHideQuestionsCalculator {
 
+    private static final Map<Order, Map<String, String>> SHOW_HIDE_QUESTIONS = Stream.of(Order.values())
+        .collect(Maps.toImmutableEnumMap(Function.identity(), OrderShowHideQuestionsCalculator::showHideQuestions));
+
     public Map<String, String> calculate(Order order) {
-        Set<OrderQuestionBlock> questionsBlocks = Sets.newHashSet(order.getQuestionsBlocks());
-        Set<OrderQuestionBlock> allQuestionBlocks = Stream.of(OrderQuestionBlock.values()).collect(Collectors.toSet());
+        return SHOW_HIDE_QUESTIONS.get(order);
+    }
 
-        Map<String, String> questionMap = allQuestionBlocks.stream().collect(Collectors.toMap(
+    private static Map<String, String> showHideQuestions(Order order) {
+        Set<OrderQuestionBlock> questionsBlocks = Set.copyOf(order.getQuestionsBlocks());
+
+        Map<String, String> questionMap = Stream.of(OrderQuestionBlock.values()).collect(ImmutableMap.toImmutableMap(
             OrderQuestionBlock::getShowHideField, el -> questionsBlocks.contains(el) ? "YES" : "NO",
-            (o1, o2) -> o1, HashMap::new
+            (o1, o2) -> o1
         ));
 
-        if (IsFinalOrder.MAYBE.equals(order.getIsFinalOrder())) {
-            questionMap.put("isFinalOrder", "YES");
-        } else {
-            questionMap.put("isFinalOrder", "NO");
-        }
-
-        return questionMap;
+        return ImmutableMap.<String, String>builder()
+            .putAll(questionMap)
+            .put("isFinalOrder", IsFinalOrder.MAYBE.equals(order.getIsFinalOrder()) ? "YES" : "NO")
+            .build();
     }
 
 }
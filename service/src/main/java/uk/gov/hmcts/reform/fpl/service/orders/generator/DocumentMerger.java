@@ -1,13 +1,14 @@
 package uk.gov.hmcts.reform.fpl.service.orders.generator;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 
 import java.io.ByteArrayInputStream;
@@ -16,17 +17,34 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static io.jsonwebtoken.lang.Collections.isEmpty;
-import static org.apache.pdfbox.io.MemoryUsageSetting.setupMainMemoryOnly;
+import static java.util.stream.Collectors.toList;
+import static org.apache.pdfbox.io.MemoryUsageSetting.setupMixed;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class DocumentMerger {
 
+    private static final int MAX_CONCURRENT_DOWNLOADS = 4;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
     private final DocumentDownloadService documentDownloadService;
     private final DocumentConversionService documentConversionService;
+    private final ParallelTaskRunner parallelTaskRunner;
+    private final long maxMainMemoryBytes;
+
+    @Autowired
+    public DocumentMerger(DocumentDownloadService documentDownloadService,
+                          DocumentConversionService documentConversionService,
+                          ParallelTaskRunner parallelTaskRunner,
+                          @Value("${documentMerge.maxMainMemoryMegabytes:50}") long maxMainMemoryMegabytes) {
+        this.documentDownloadService = documentDownloadService;
+        this.documentConversionService = documentConversionService;
+        this.parallelTaskRunner = parallelTaskRunner;
+        this.maxMainMemoryBytes = maxMainMemoryMegabytes * BYTES_PER_MEGABYTE;
+    }
 
     public DocmosisDocument mergeDocuments(DocmosisDocument originalDocument,
                                            List<DocumentReference> additionalDocuments) {
@@ -35,15 +53,22 @@ public class DocumentMerger {
             return originalDocument;
         }
 
+        List<byte[]> pdfs = getPdfFilesToMerge(originalDocument, additionalDocuments);
+        long inputBytes = pdfs.stream().mapToLong(pdf -> pdf.length).sum();
+
         ByteArrayOutputStream docOutputStream = new ByteArrayOutputStream();
-        List<InputStream> documents = getPdfFilesToMerge(originalDocument, additionalDocuments);
 
         PDFMergerUtility pdfMergerUtility = new PDFMergerUtility();
-        pdfMergerUtility.addSources(documents);
+        pdfMergerUtility.addSources(toInputStreams(pdfs));
         pdfMergerUtility.setDestinationStream(docOutputStream);
         try {
-            pdfMergerUtility.mergeDocuments(setupMainMemoryOnly());
-            log.info("Merged {} documents", 1 + additionalDocuments.size());
+            long start = System.currentTimeMillis();
+            pdfMergerUtility.mergeDocuments(setupMixed(maxMainMemoryBytes));
+
+            // pdfbox scratch data above the main memory limit goes to temporary files
+            log.info("Merged {} documents in {} ms, {} bytes in + {} bytes out",
+                pdfs.size(), System.currentTimeMillis() - start, inputBytes, docOutputStream.size());
+
             return new DocmosisDocument(originalDocument.getDocumentTitle(), docOutputStream.toByteArray());
         } catch (IOException e) {
             throw new DocumentMergeException(
@@ -52,20 +77,23 @@ public class DocumentMerger {
         }
     }
 
-    private List<InputStream> getPdfFilesToMerge(DocmosisDocument originalDocument,
-                                                 List<DocumentReference> additionalDocuments) {
-        List<InputStream> documents = new ArrayList<>();
-        final byte[] convertedOriginalDocument = documentConversionService.convertToPdf(
-            originalDocument.getBytes(), originalDocument.getDocumentTitle());
+    private List<byte[]> getPdfFilesToMerge(DocmosisDocument originalDocument,
+                                            List<DocumentReference> additionalDocuments) {
+        List<Supplier<byte[]>> documents = new ArrayList<>();
 
-        documents.add(new ByteArrayInputStream(convertedOriginalDocument));
+        documents.add(() -> documentConversionService.convertToPdf(
+            originalDocument.getBytes(), originalDocument.getDocumentTitle()));
 
-        additionalDocuments.forEach(documentReference -> {
+        additionalDocuments.forEach(documentReference -> documents.add(() -> {
             final byte[] document = documentDownloadService.downloadDocument(documentReference.getBinaryUrl());
-            final byte[] pdf = documentConversionService.convertToPdf(document, documentReference.getFilename());
-            documents.add(new ByteArrayInputStream(pdf));
-        });
-        return documents;
+            return documentConversionService.convertToPdf(document, documentReference.getFilename());
+        }));
+
+        return parallelTaskRunner.map(documents, Supplier::get, MAX_CONCURRENT_DOWNLOADS);
+    }
+
+    private static List<InputStream> toInputStreams(List<byte[]> pdfs) {
+        return pdfs.stream().map(ByteArrayInputStream::new).collect(toList());
     }
 
 }
@@ -10,6 +10,8 @@ import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
 import uk.gov.hmcts.reform.fpl.model.order.Order;
 import uk.gov.hmcts.reform.fpl.service.document.DocumentGenerator;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class OrderDocumentGenerator {
@@ -19,11 +21,7 @@ public class OrderDocumentGenerator {
     private final DocumentGenerator documentGenerator;
 
     public DocmosisDocument generate(Order orderType, CaseData caseData, OrderStatus orderStatus, RenderFormat format) {
-        DocmosisParameterGenerator docmosisParameterGenerator = holder.getTypeToGenerator().get(orderType);
-
-        if (docmosisParameterGenerator == null) {
-            throw new UnsupportedOperationException("Not implemented yet for order " + orderType.name());
-        }
+        DocmosisParameterGenerator docmosisParameterGenerator = getParameterGenerator(orderType);
 
         DocmosisDocument docmosisDocument = documentGenerator.generateDocument(caseData,
             docmosisParameterGenerator,
@@ -38,4 +36,22 @@ public class OrderDocumentGenerator {
         return docmosisDocument;
     }
 
+    public Map<String, Object> generateTemplateData(Order orderType, CaseData caseData, OrderStatus orderStatus) {
+        return documentGenerator.generateTemplateData(caseData, getParameterGenerator(orderType), orderStatus);
+    }
+
+    public DocmosisDocument generate(Order orderType, Map<String, Object> templateData, RenderFormat format) {
+        return documentGenerator.generateDocument(templateData, getParameterGenerator(orderType), format);
+    }
+
+    private DocmosisParameterGenerator getParameterGenerator(Order orderType) {
+        DocmosisParameterGenerator docmosisParameterGenerator = holder.getTypeToGenerator().get(orderType);
+
+        if (docmosisParameterGenerator == null) {
+            throw new UnsupportedOperationException("Not implemented yet for order " + orderType.name());
+        }
+
+        return docmosisParameterGenerator;
+    }
+
 }
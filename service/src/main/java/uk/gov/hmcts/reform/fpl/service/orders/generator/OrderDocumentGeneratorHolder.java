@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service.orders.generator;
 
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Maps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -9,7 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
@@ -37,51 +39,48 @@ public class OrderDocumentGeneratorHolder {
     // additional document collectors
     private final C23EPOAdditionalDocumentsCollector c23EPOAdditionalDocumentsCollector;
 
-    private Map<Order, DocmosisParameterGenerator> typeToGenerator;
-    private Map<Order, AdditionalDocumentsCollector> typeToAdditionalDocsCollector;
-    private Map<Order, DocmosisParameterGenerator> typeToNotificationDocumentGenerator;
+    private final Supplier<Map<Order, DocmosisParameterGenerator>> typeToGenerator =
+        Suppliers.memoize(this::buildTypeToGenerator);
+    private final Supplier<Map<Order, AdditionalDocumentsCollector>> typeToAdditionalDocsCollector =
+        Suppliers.memoize(this::buildTypeToAdditionalDocumentsCollector);
+    private final Supplier<Map<Order, DocmosisParameterGenerator>> typeToNotificationDocumentGenerator =
+        Suppliers.memoize(() -> Maps.immutableEnumMap(Map.of(
+            Order.A70_PLACEMENT_ORDER, a206PlacementOrderNotificationParameterGenerator
+        )));
 
     public Map<Order, DocmosisParameterGenerator> getTypeToGenerator() {
-        if (typeToGenerator == null) {
-            typeToGenerator = List.of(
-                a70PlacementOrderDocumentParameterGenerator,
-                c21BlankOrderDocumentParameterGenerator,
-                c23EPODocumentParameterGenerator,
-                c26SecureAccommodationOrderDocumentParameterGenerator,
-                c32CareOrderDocumentParameterGenerator,
-                c32bDischargeOfCareOrderDocumentParameterGenerator,
-                c33InterimCareOrderDocumentParameterGenerator,
-                c35aSupervisionOrderDocumentParameterGenerator,
-                c35bISODocumentParameterGenerator,
-                c43ChildArrangementOrderDocumentParameterGenerator,
-                c43ASpecialGuardianshipOrderDocumentParameterGenerator,
-                c47AParameterGenerator,
-                c45aParentalResponsibilityOrderDocumentParameterGenerator
-            ).stream().collect(Collectors.toMap(DocmosisParameterGenerator::accept, Function.identity()));
-        }
-        return typeToGenerator;
+        return typeToGenerator.get();
     }
 
     public Map<Order, AdditionalDocumentsCollector> getTypeToAdditionalDocumentsCollector() {
-        if (typeToAdditionalDocsCollector == null) {
-            typeToAdditionalDocsCollector = List.of(
-                c23EPOAdditionalDocumentsCollector
-            ).stream().collect(Collectors.toMap(AdditionalDocumentsCollector::accept, Function.identity()));
-        }
-        return typeToAdditionalDocsCollector;
+        return typeToAdditionalDocsCollector.get();
     }
 
     public Optional<DocmosisParameterGenerator> getNotificationDocumentParameterGeneratorByOrderType(Order orderType) {
-        return Optional.ofNullable(getTypeToNotificationDocumentGenerator().get(orderType));
+        return Optional.ofNullable(typeToNotificationDocumentGenerator.get().get(orderType));
     }
 
-    private Map<Order, DocmosisParameterGenerator> getTypeToNotificationDocumentGenerator() {
-        if (typeToNotificationDocumentGenerator == null) {
-            typeToNotificationDocumentGenerator = Map.of(
-                Order.A70_PLACEMENT_ORDER, a206PlacementOrderNotificationParameterGenerator
-            );
-        }
-        return typeToNotificationDocumentGenerator;
+    private Map<Order, DocmosisParameterGenerator> buildTypeToGenerator() {
+        return List.of(
+            a70PlacementOrderDocumentParameterGenerator,
+            c21BlankOrderDocumentParameterGenerator,
+            c23EPODocumentParameterGenerator,
+            c26SecureAccommodationOrderDocumentParameterGenerator,
+            c32CareOrderDocumentParameterGenerator,
+            c32bDischargeOfCareOrderDocumentParameterGenerator,
+            c33InterimCareOrderDocumentParameterGenerator,
+            c35aSupervisionOrderDocumentParameterGenerator,
+            c35bISODocumentParameterGenerator,
+            c43ChildArrangementOrderDocumentParameterGenerator,
+            c43ASpecialGuardianshipOrderDocumentParameterGenerator,
+            c47AParameterGenerator,
+            c45aParentalResponsibilityOrderDocumentParameterGenerator
+        ).stream().collect(Maps.toImmutableEnumMap(DocmosisParameterGenerator::accept, Function.identity()));
     }
 
+    private Map<Order, AdditionalDocumentsCollector> buildTypeToAdditionalDocumentsCollector() {
+        return List.of(
+            c23EPOAdditionalDocumentsCollector
+        ).stream().collect(Maps.toImmutableEnumMap(AdditionalDocumentsCollector::accept, Function.identity()));
+    }
 }
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service.orders.prepopulator;
 
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Maps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -31,7 +33,7 @@ import uk.gov.hmcts.reform.fpl.service.orders.prepopulator.section.OrderSectionP
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
@@ -61,15 +63,21 @@ public class OrderSectionAndQuestionsPrePopulatorHolder {
     private final OrderDetailsSectionPrePopulator orderDetailsPrePopulator;
     private final DraftOrderPreviewSectionPrePopulator draftOrderPreviewPrePopulator;
 
-    private Map<OrderQuestionBlock, QuestionBlockOrderPrePopulator> blockOrderPrePopulatorMap;
-    private Map<OrderSection, OrderSectionPrePopulator> sectionPrePopulatorMap;
+    private final Supplier<Map<OrderQuestionBlock, QuestionBlockOrderPrePopulator>> blockOrderPrePopulatorMap =
+        Suppliers.memoize(this::buildQuestionBlockToPopulator);
+    private final Supplier<Map<OrderSection, OrderSectionPrePopulator>> sectionPrePopulatorMap =
+        Suppliers.memoize(this::buildSectionBlockToPopulator);
 
     public Map<OrderQuestionBlock, QuestionBlockOrderPrePopulator> questionBlockToPopulator() {
-        if (blockOrderPrePopulatorMap != null) {
-            return blockOrderPrePopulatorMap;
-        }
+        return blockOrderPrePopulatorMap.get();
+    }
+
+    public Map<OrderSection, OrderSectionPrePopulator> sectionBlockToPopulator() {
+        return sectionPrePopulatorMap.get();
+    }
 
-        blockOrderPrePopulatorMap = List.of(
+    private Map<OrderQuestionBlock, QuestionBlockOrderPrePopulator> buildQuestionBlockToPopulator() {
+        return List.of(
             linkedToHearingBlockPrePopulator,
             linkApplicationBlockPrePopulator,
             childPlacementOrderPrePopulator,
@@ -85,31 +93,23 @@ public class OrderSectionAndQuestionsPrePopulatorHolder {
             whichOthersBlockPrePopulator,
             amendOrderToDownloadPrePopulator,
             parentalResponsibilityPrePopulator
-        ).stream().collect(Collectors.toMap(
+        ).stream().collect(Maps.toImmutableEnumMap(
             QuestionBlockOrderPrePopulator::accept,
             Function.identity()
         ));
-
-        return blockOrderPrePopulatorMap;
     }
 
-    public Map<OrderSection, OrderSectionPrePopulator> sectionBlockToPopulator() {
-        if (sectionPrePopulatorMap != null) {
-            return sectionPrePopulatorMap;
-        }
-
-        sectionPrePopulatorMap = List.of(
+    private Map<OrderSection, OrderSectionPrePopulator> buildSectionBlockToPopulator() {
+        return List.of(
             hearingDetailsSectionPrePopulator,
             issuingDetailsPrePopulator,
             childrenDetailsPrePopulator,
             orderDetailsPrePopulator,
             draftOrderPreviewPrePopulator
-        ).stream().collect(Collectors.toMap(
+        ).stream().collect(Maps.toImmutableEnumMap(
             OrderSectionPrePopulator::accept,
             Function.identity()
         ));
-
-        return sectionPrePopulatorMap;
     }
 
 }
@@ -3,9 +3,9 @@ package uk.gov.hmcts.reform.fpl.service.orders.prepopulator.preselector;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.fpl.enums.State;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.order.OrderTempQuestions;
 import uk.gov.hmcts.reform.fpl.service.CaseConverter;
 import uk.gov.hmcts.reform.fpl.service.orders.OrderShowHideQuestionsCalculator;
 import uk.gov.hmcts.reform.fpl.service.orders.prepopulator.OrderSectionAndQuestionsPrePopulator;
@@ -23,16 +23,14 @@ public class ManageOrderInitialTypePreSelector {
     private final OrderSectionAndQuestionsPrePopulator orderSectionAndQuestionsPrePopulator;
     private final OrderShowHideQuestionsCalculator showHideQuestionsCalculator;
 
-    public Map<String, Object> preSelect(CaseDetails caseDetails) {
-        CaseData caseData = caseConverter.convert(caseDetails);
-
+    public Map<String, Object> preSelect(CaseData caseData) {
         if (caseData.getState() == State.CLOSED) {
             Map<String, Object> defaultClosedStateData = defaultDataForClosedState();
 
             defaultClosedStateData.putAll(orderSectionAndQuestionsPrePopulator.prePopulate(
                 C21_BLANK_ORDER,
                 C21_BLANK_ORDER.firstSection(),
-                caseDataWithDefaults(caseDetails, defaultClosedStateData))
+                caseDataWithDefaults(caseData))
             );
 
             return defaultClosedStateData;
@@ -49,11 +47,15 @@ public class ManageOrderInitialTypePreSelector {
         return defaultClosedStateData;
     }
 
-    private CaseData caseDataWithDefaults(CaseDetails caseDetails, Map<String, Object> defaultClosedDate) {
-        CaseDetails caseDetailsWithDefaults = caseDetails.toBuilder().build();
-        caseDetailsWithDefaults.getData().putAll(defaultClosedDate);
-        CaseData convert = caseConverter.convert(caseDetailsWithDefaults);
-        return convert;
+    private CaseData caseDataWithDefaults(CaseData caseData) {
+        return caseData.toBuilder()
+            .manageOrdersEventData(caseData.getManageOrdersEventData().toBuilder()
+                .manageOrdersState(State.CLOSED)
+                .manageOrdersType(C21_BLANK_ORDER)
+                .orderTempQuestions(caseConverter.convert(
+                    showHideQuestionsCalculator.calculate(C21_BLANK_ORDER), OrderTempQuestions.class))
+                .build())
+            .build();
     }
 
 }
@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.fpl.service.orders.preview;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import javax.sql.DataSource;
+
+/**
+ * Keeps previews in the scheduler database so that any instance of the service can serve them, it is only available
+ * when the scheduler is enabled. Expired previews are removed by the
+ * {@link uk.gov.hmcts.reform.fpl.jobs.DraftOrderPreviewsPurger} job.
+ */
+@Component
+@ConditionalOnExpression("'${orderPreview.store.type:database}' == 'database' && ${scheduler.enabled:false}")
+public class DatabaseDraftOrderPreviews implements DraftOrderPreviews {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMinutes;
+    private final long maxBytes;
+
+    @Autowired
+    public DatabaseDraftOrderPreviews(DataSource dataSource,
+                                      @Value("${orderPreview.store.ttlMinutes:30}") long ttlMinutes,
+                                      @Value("${orderPreview.store.maxMegabytes:100}") long maxMegabytes) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.ttlMinutes = ttlMinutes;
+        this.maxBytes = maxMegabytes * 1024 * 1024;
+    }
+
+    @Override
+    public Optional<String> findToken(String digest) {
+        return jdbcTemplate.queryForList("SELECT token FROM draft_order_previews WHERE digest = ? "
+                + "AND created_at > now() - ? * interval '1 minute' ORDER BY created_at DESC LIMIT 1",
+            String.class, digest, ttlMinutes).stream().findFirst();
+    }
+
+    @Override
+    public Optional<DraftOrderPreview> get(String token) {
+        return jdbcTemplate.query("SELECT case_id, content, media_type, file_name FROM draft_order_previews "
+                + "WHERE token = ? AND created_at > now() - ? * interval '1 minute'",
+            (row, rowNum) -> new DraftOrderPreview(row.getLong("case_id"), row.getBytes("content"),
+                row.getString("media_type"), row.getString("file_name")),
+            token, ttlMinutes).stream().findFirst();
+    }
+
+    @Override
+    public void save(String token, String digest, DraftOrderPreview preview) {
+        jdbcTemplate.update("INSERT INTO draft_order_previews (token, digest, case_id, content, media_type, "
+                + "file_name, created_at) VALUES (?, ?, ?, ?, ?, ?, now())",
+            token, digest, preview.getCaseId(), preview.getContent(), preview.getMediaType(), preview.getFileName());
+    }
+
+    @Override
+    public long purge() {
+        int expired = jdbcTemplate.update("DELETE FROM draft_order_previews "
+            + "WHERE created_at < now() - ? * interval '1 minute'", ttlMinutes);
+
+        // the newest previews are kept up to the size limit, as the in memory store does
+        int overLimit = jdbcTemplate.update("DELETE FROM draft_order_previews WHERE token IN (SELECT token FROM "
+            + "(SELECT token, sum(octet_length(content)) OVER (ORDER BY created_at DESC, token) AS kept "
+            + "FROM draft_order_previews) previews WHERE kept > ?)", maxBytes);
+
+        return (long) expired + overLimit;
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.fpl.service.orders.preview;
+
+import lombok.Value;
+
+@Value
+public class DraftOrderPreview {
+    Long caseId;
+    byte[] content;
+    String mediaType;
+    String fileName;
+}
@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.fpl.service.orders.preview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.service.orders.generator.OrderDocumentGeneratorResult;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Keeps draft order previews for a short while instead of uploading them to dm-store, they are served by
+ * {@link uk.gov.hmcts.reform.fpl.controllers.orders.DraftOrderPreviewController} until they expire. A preview is
+ * reused while the digest of the parameters it was generated from stays the same. Previews are kept in the
+ * scheduler database, so that whichever instance the request for a preview reaches can serve it.
+ */
+@Slf4j
+@Component
+public class DraftOrderPreviewStore {
+
+    private final ObjectMapper mapper;
+    private final boolean enabled;
+    private final String baseUrl;
+    private final DraftOrderPreviews previews;
+
+    @Autowired
+    public DraftOrderPreviewStore(ObjectMapper mapper,
+                                  Optional<DraftOrderPreviews> previews,
+                                  @Value("${orderPreview.store.enabled:false}") boolean enabled,
+                                  @Value("${orderPreview.store.baseUrl:}") String baseUrl) {
+        if (enabled && isBlank(baseUrl)) {
+            throw new IllegalStateException("orderPreview.store.baseUrl must be set when the draft order preview "
+                + "store is enabled");
+        }
+        if (enabled && previews.isEmpty()) {
+            throw new IllegalStateException("The draft order preview store is enabled without a store for the "
+                + "previews, it needs the scheduler database or orderPreview.store.type set to memory");
+        }
+
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.baseUrl = baseUrl;
+        this.previews = previews.orElse(null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the stored preview generated from the same parameters, or generates and stores a new one.
+     *
+     * @param caseId     case of the order, only users with access to the case can download its preview
+     * @param parameters everything else the content of the preview depends on, serialised to compute its digest
+     */
+    public DocumentReference getOrGenerate(Long caseId, Object parameters, String fileName,
+                                           Supplier<OrderDocumentGeneratorResult> generator) {
+        String digest = digest(Arrays.asList(caseId, parameters));
+        Optional<String> storedToken = previews.findToken(digest);
+
+        if (storedToken.isPresent()) {
+            log.debug("Reusing draft order preview {} for unchanged parameters", storedToken.get());
+            return toDocumentReference(storedToken.get(), fileName);
+        }
+
+        OrderDocumentGeneratorResult result = generator.get();
+
+        String token = UUID.randomUUID().toString();
+        String mediaType = result.getRenderFormat().getMediaType();
+        previews.save(token, digest, new DraftOrderPreview(caseId, result.getBytes(), mediaType, fileName));
+
+        return toDocumentReference(token, fileName);
+    }
+
+    public Optional<DraftOrderPreview> get(String token) {
+        return enabled ? previews.get(token) : Optional.empty();
+    }
+
+    /**
+     * @return number of expired previews removed
+     */
+    public long purge() {
+        return enabled ? previews.purge() : 0;
+    }
+
+    private DocumentReference toDocumentReference(String token, String fileName) {
+        String url = baseUrl + "/order-previews/" + token;
+
+        return DocumentReference.builder()
+            .url(url)
+            .binaryUrl(url)
+            .filename(fileName)
+            .build();
+    }
+
+    private String digest(Object parameters) {
+        try {
+            return Hashing.sha256().hashBytes(mapper.writeValueAsBytes(parameters)).toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialise draft order parameters", e);
+        }
+    }
+}
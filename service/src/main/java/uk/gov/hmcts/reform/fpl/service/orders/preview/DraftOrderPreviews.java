@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.fpl.service.orders.preview;
+
+import java.util.Optional;
+
+/**
+ * Where draft order previews are kept until they expire, every instance of the service must see the same previews
+ * as a preview can be requested from a different instance than the one that generated it.
+ */
+public interface DraftOrderPreviews {
+
+    /**
+     * @return token of the unexpired preview generated from parameters with the given digest
+     */
+    Optional<String> findToken(String digest);
+
+    Optional<DraftOrderPreview> get(String token);
+
+    void save(String token, String digest, DraftOrderPreview preview);
+
+    /**
+     * Removes the expired previews, and the oldest ones while the previews kept exceed their size limit.
+     *
+     * @return number of previews removed
+     */
+    long purge();
+}
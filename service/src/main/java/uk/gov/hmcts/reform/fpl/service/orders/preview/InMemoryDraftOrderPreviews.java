@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.fpl.service.orders.preview;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Keeps previews in the memory of this instance, only for running a single instance of the service locally.
+ */
+@Component
+@ConditionalOnProperty(value = "orderPreview.store.type", havingValue = "memory")
+public class InMemoryDraftOrderPreviews implements DraftOrderPreviews {
+
+    private final Cache<String, DraftOrderPreview> previews;
+    private final Cache<String, String> tokensByDigest;
+
+    @Autowired
+    public InMemoryDraftOrderPreviews(@Value("${orderPreview.store.ttlMinutes:30}") long ttlMinutes,
+                                      @Value("${orderPreview.store.maxMegabytes:100}") long maxMegabytes) {
+        this.previews = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .maximumWeight(maxMegabytes * 1024 * 1024)
+            .<String, DraftOrderPreview>weigher((token, preview) -> preview.getContent().length)
+            .build();
+        this.tokensByDigest = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .maximumSize(10_000)
+            .build();
+    }
+
+    @Override
+    public Optional<String> findToken(String digest) {
+        return Optional.ofNullable(tokensByDigest.getIfPresent(digest))
+            .filter(token -> previews.getIfPresent(token) != null);
+    }
+
+    @Override
+    public Optional<DraftOrderPreview> get(String token) {
+        return Optional.ofNullable(previews.getIfPresent(token));
+    }
+
+    @Override
+    public void save(String token, String digest, DraftOrderPreview preview) {
+        previews.put(token, preview);
+        tokensByDigest.put(digest, token);
+    }
+
+    @Override
+    public long purge() {
+        long kept = previews.size();
+
+        previews.cleanUp();
+        tokensByDigest.cleanUp();
+
+        return kept - previews.size();
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service.orders.validator;
 
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Maps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -8,7 +10,7 @@ import uk.gov.hmcts.reform.fpl.model.order.OrderQuestionBlock;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
@@ -22,13 +24,15 @@ public class OrderValidatorHolder {
     private final ManageOrderEndDateWithMonthValidator manageOrderEndDateWithMonthValidator;
     private final ManageOrderEndDateWithEndOfProceedingsValidator manageOrderEndDateWithEndOfProceedingsValidator;
 
-    private Map<OrderQuestionBlock, QuestionBlockOrderValidator> blockToValidator;
+    private final Supplier<Map<OrderQuestionBlock, QuestionBlockOrderValidator>> blockToValidator =
+        Suppliers.memoize(this::buildBlockToValidator);
 
     public Map<OrderQuestionBlock, QuestionBlockOrderValidator> blockToValidator() {
-        if (blockToValidator != null) {
-            return blockToValidator;
-        }
-        blockToValidator = List.of(
+        return blockToValidator.get();
+    }
+
+    private Map<OrderQuestionBlock, QuestionBlockOrderValidator> buildBlockToValidator() {
+        return List.of(
             whichChildrenValidator,
             approvalDateValidator,
             approvalDateTimeValidator,
@@ -36,8 +40,6 @@ public class OrderValidatorHolder {
             epoEndDateValidator,
             manageOrderEndDateWithMonthValidator,
             manageOrderEndDateWithEndOfProceedingsValidator
-        ).stream().collect(Collectors.toMap(QuestionBlockOrderValidator::accept, Function.identity()));
-
-        return blockToValidator;
+        ).stream().collect(Maps.toImmutableEnumMap(QuestionBlockOrderValidator::accept, Function.identity()));
     }
 }
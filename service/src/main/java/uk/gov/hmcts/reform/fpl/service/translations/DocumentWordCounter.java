@@ -1,28 +1,45 @@
 package uk.gov.hmcts.reform.fpl.service.translations;
 
-import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.StringUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.fpl.docmosis.DocmosisHelper;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 
-import java.util.stream.Stream;
-
 @Component
-@RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class DocumentWordCounter {
 
+    private static final int MAX_CACHED_COUNTS = 1000;
+
     private final DocumentConversionService documentConversionService;
     private final DocmosisHelper docmosisHelper;
+    private final Cache<String, Long> counts = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_COUNTS).build();
 
-    public long count(byte[] originalDocumentContent, String filename) {
+    @Autowired
+    public DocumentWordCounter(DocumentConversionService documentConversionService, DocmosisHelper docmosisHelper) {
+        this.documentConversionService = documentConversionService;
+        this.docmosisHelper = docmosisHelper;
+    }
 
-        byte[] pdfFile = documentConversionService.convertToPdf(originalDocumentContent, filename);
+    public long count(byte[] originalDocumentContent, String filename) {
+        // conversion to pdf depends on the file extension
+        String key = Hashing.sha256().hashBytes(originalDocumentContent) + ":" + filename;
+        Long count = counts.getIfPresent(key);
 
-        String rawContent = docmosisHelper.extractPdfContent(pdfFile);
+        if (count == null) {
+            count = countWords(documentConversionService.convertToPdf(originalDocumentContent, filename));
+            counts.put(key, count);
+        }
 
-        return Stream.of(rawContent.split("[ ,.;!?\r\n]")).filter(StringUtils::isNotBlank).count();
+        return count;
+    }
 
+    private long countWords(byte[] pdfFile) {
+        // PDFBox documents are not thread safe, so the pages of the single loaded document are read one by one
+        WordCount wordCount = new WordCount();
+        docmosisHelper.extractPdfContent(pdfFile, wordCount::add);
+        return wordCount.getCount();
     }
 }
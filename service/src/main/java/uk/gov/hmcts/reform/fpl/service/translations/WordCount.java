@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.fpl.service.translations;
+
+/**
+ * Counts words of a text fed in chunks, without holding on to the text, a word split between two chunks is counted
+ * once. Words are separated by space, comma, full stop, semicolon, exclamation mark, question mark and line breaks
+ * and must contain at least one non whitespace character.
+ */
+class WordCount {
+
+    // whether a separator has been seen, before that the whole text is a single (possibly blank) word
+    private boolean separated;
+    // whether text before the first separator, or the whole text when not separated, is a word
+    private boolean leadingWord;
+    // words fully enclosed by separators
+    private long enclosedWords;
+    // whether text after the last separator is a word
+    private boolean trailingWord;
+
+    public void add(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+
+            if (isSeparator(character)) {
+                if (separated && trailingWord) {
+                    enclosedWords++;
+                }
+                separated = true;
+                trailingWord = false;
+            } else if (!Character.isWhitespace(character)) {
+                if (separated) {
+                    trailingWord = true;
+                } else {
+                    leadingWord = true;
+                }
+            }
+        }
+    }
+
+    public long getCount() {
+        return (leadingWord ? 1 : 0) + enclosedWords + (trailingWord ? 1 : 0);
+    }
+
+    private static boolean isSeparator(char character) {
+        switch (character) {
+            case ' ':
+            case ',':
+            case '.':
+            case ';':
+            case '!':
+            case '?':
+            case '\r':
+            case '\n':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
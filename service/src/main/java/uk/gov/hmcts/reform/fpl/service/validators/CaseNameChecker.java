@@ -17,6 +17,11 @@ public class CaseNameChecker extends PropertiesChecker {
         return super.validate(caseData, List.of("caseName"));
     }
 
+    @Override
+    public boolean isCompletedWhenValid() {
+        return true;
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         return isNotEmpty(caseData.getCaseName());
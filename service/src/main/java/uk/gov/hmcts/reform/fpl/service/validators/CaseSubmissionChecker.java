@@ -38,6 +38,10 @@ public class CaseSubmissionChecker extends CompoundEventChecker {
         return super.validateEvents(caseData, getRequiredEvents(caseData));
     }
 
+    public List<EventValidationErrors> validateAsGroups(CaseData caseData, ValidationResults results) {
+        return super.validateEvents(caseData, getRequiredEvents(caseData), results);
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         return isNotEmpty(caseData.getDateSubmitted());
@@ -53,6 +57,11 @@ public class CaseSubmissionChecker extends CompoundEventChecker {
         return validate(caseData).isEmpty();
     }
 
+    @Override
+    public boolean isAvailable(CaseData caseData, ValidationResults results) {
+        return validateAsGroups(caseData, results).isEmpty();
+    }
+
     private List<Event> getRequiredEvents(CaseData caseData) {
 
         final List<Event> events = new ArrayList<>();
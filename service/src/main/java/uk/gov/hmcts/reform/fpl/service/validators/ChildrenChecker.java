@@ -20,6 +20,11 @@ public class ChildrenChecker extends PropertiesChecker {
         return super.validate(caseData, List.of("children1"));
     }
 
+    @Override
+    public boolean isCompletedWhenValid() {
+        return true;
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         switch (caseData.getAllChildren().size()) {
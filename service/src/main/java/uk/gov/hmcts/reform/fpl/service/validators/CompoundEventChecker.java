@@ -1,21 +1,36 @@
 package uk.gov.hmcts.reform.fpl.service.validators;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import uk.gov.hmcts.reform.fpl.enums.Event;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.submission.EventValidationErrors;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
+import static uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.VALIDATION_EXECUTOR;
 
 public abstract class CompoundEventChecker implements EventChecker {
 
     @Autowired
     private EventsChecker eventChecker;
 
+    private ParallelTaskRunner parallelTaskRunner;
+
+    @Value("${caseSubmission.parallelValidation.maxConcurrency:4}")
+    private int validationConcurrency;
+
+    @Autowired
+    void setValidationExecutor(@Qualifier(VALIDATION_EXECUTOR) Executor validationExecutor) {
+        this.parallelTaskRunner = new ParallelTaskRunner(validationExecutor);
+    }
+
     public List<String> validate(CaseData caseData, List<Event> events) {
 
         List<EventValidationErrors> eventsErrors = validateEvents(caseData, events);
@@ -36,15 +51,28 @@ public abstract class CompoundEventChecker implements EventChecker {
     }
 
     public List<EventValidationErrors> validateEvents(CaseData caseData, List<Event> events) {
-        return events.stream()
-            .map(event -> EventValidationErrors.builder()
-                .event(event)
-                .errors(eventChecker.validate(event, caseData).stream()
-                    .distinct()
-                    .sorted()
-                    .collect(toList()))
-                .build())
+        return validateEvents(caseData, events, new ValidationResults(caseData));
+    }
+
+    /**
+     * Events are independent of each other so they are validated in parallel on the validation pool, errors are
+     * still reported in the order of the events. Events already in the given results are not validated again.
+     */
+    public List<EventValidationErrors> validateEvents(CaseData caseData, List<Event> events,
+                                                      ValidationResults results) {
+        return parallelTaskRunner.map(events, event -> validateEvent(caseData, event, results), validationConcurrency)
+            .stream()
             .filter(eventErrors -> isNotEmpty(eventErrors.getErrors()))
             .collect(toList());
     }
+
+    private EventValidationErrors validateEvent(CaseData caseData, Event event, ValidationResults results) {
+        return EventValidationErrors.builder()
+            .event(event)
+            .errors(eventChecker.validate(event, caseData, results).stream()
+                .distinct()
+                .sorted()
+                .collect(toList()))
+            .build();
+    }
 }
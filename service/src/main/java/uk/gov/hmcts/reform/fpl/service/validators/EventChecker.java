@@ -17,10 +17,22 @@ public interface EventChecker {
         return validate(caseData).isEmpty();
     }
 
+    /**
+     * Whether the event is completed exactly when it is valid, which lets its completion be answered from validation
+     * errors already known. Only checkers relying on the default {@link #isCompleted(CaseData)} may return true.
+     */
+    default boolean isCompletedWhenValid() {
+        return false;
+    }
+
     default boolean isAvailable(CaseData caseData) {
         return true;
     }
 
+    default boolean isAvailable(CaseData caseData, ValidationResults results) {
+        return isAvailable(caseData);
+    }
+
     default TaskState completedState() {
         return COMPLETED;
     }
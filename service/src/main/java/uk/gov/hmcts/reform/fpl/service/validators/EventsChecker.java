@@ -1,13 +1,14 @@
 package uk.gov.hmcts.reform.fpl.service.validators;
 
+import com.google.common.collect.Maps;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.fpl.enums.Event;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.tasklist.TaskState;
 
-import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.PostConstruct;
 
 import static java.util.Collections.emptyList;
@@ -93,44 +94,68 @@ public class EventsChecker {
     @Autowired
     private ApplicationDocumentChecker applicationDocumentChecker;
 
-    private final EnumMap<Event, EventChecker> eventCheckers = new EnumMap<>(Event.class);
+    private Map<Event, EventChecker> eventCheckers;
 
     @PostConstruct
     public void init() {
-        eventCheckers.put(CASE_NAME, caseNameChecker);
-        eventCheckers.put(CHILDREN, childrenChecker);
-        eventCheckers.put(RESPONDENTS, respondentsChecker);
-        eventCheckers.put(HEARING_URGENCY, hearingUrgencyChecker);
-        eventCheckers.put(ORDERS_SOUGHT, ordersSoughtChecker);
-        eventCheckers.put(GROUNDS, groundsChecker);
-        eventCheckers.put(ORGANISATION_DETAILS, organisationDetailsChecker);
-        eventCheckers.put(LOCAL_AUTHORITY_DETAILS, localAuthorityDetailsChecker);
-        eventCheckers.put(ALLOCATION_PROPOSAL, allocationProposalChecker);
-        eventCheckers.put(RISK_AND_HARM, riskAndHarmChecker);
-        eventCheckers.put(FACTORS_AFFECTING_PARENTING, factorsAffectingParentingChecker);
-        eventCheckers.put(OTHER_PROCEEDINGS, proceedingsChecker);
-        eventCheckers.put(INTERNATIONAL_ELEMENT, internationalElementChecker);
-        eventCheckers.put(OTHERS, othersChecker);
-        eventCheckers.put(COURT_SERVICES, courtServiceChecker);
-        eventCheckers.put(LANGUAGE_REQUIREMENTS, languageRequirementsChecker);
-        eventCheckers.put(SUBMIT_APPLICATION, caseSubmissionChecker);
-        eventCheckers.put(SELECT_COURT, courtChecker);
+        eventCheckers = Maps.immutableEnumMap(Map.ofEntries(
+            Map.entry(CASE_NAME, caseNameChecker),
+            Map.entry(CHILDREN, childrenChecker),
+            Map.entry(RESPONDENTS, respondentsChecker),
+            Map.entry(HEARING_URGENCY, hearingUrgencyChecker),
+            Map.entry(ORDERS_SOUGHT, ordersSoughtChecker),
+            Map.entry(GROUNDS, groundsChecker),
+            Map.entry(ORGANISATION_DETAILS, organisationDetailsChecker),
+            Map.entry(LOCAL_AUTHORITY_DETAILS, localAuthorityDetailsChecker),
+            Map.entry(ALLOCATION_PROPOSAL, allocationProposalChecker),
+            Map.entry(RISK_AND_HARM, riskAndHarmChecker),
+            Map.entry(FACTORS_AFFECTING_PARENTING, factorsAffectingParentingChecker),
+            Map.entry(OTHER_PROCEEDINGS, proceedingsChecker),
+            Map.entry(INTERNATIONAL_ELEMENT, internationalElementChecker),
+            Map.entry(OTHERS, othersChecker),
+            Map.entry(COURT_SERVICES, courtServiceChecker),
+            Map.entry(LANGUAGE_REQUIREMENTS, languageRequirementsChecker),
+            Map.entry(SUBMIT_APPLICATION, caseSubmissionChecker),
+            Map.entry(SELECT_COURT, courtChecker),
+            Map.entry(APPLICATION_DOCUMENTS, applicationDocumentChecker)
+        ));
     }
 
-    private void addCheckersBasedOnToggle() {
-        eventCheckers.put(APPLICATION_DOCUMENTS, applicationDocumentChecker);
+    public List<String> validate(Event event, CaseData caseData) {
+        return validate(event, caseData, new ValidationResults(caseData));
     }
 
-    public List<String> validate(Event event, CaseData caseData) {
-        addCheckersBasedOnToggle();
-        return ofNullable(eventCheckers.get(event))
-            .map(validator -> validator.validate(caseData))
-            .orElse(emptyList());
+    /**
+     * Validates the event unless its errors are already in the given results of the same case data.
+     */
+    public List<String> validate(Event event, CaseData caseData, ValidationResults results) {
+        EventChecker checker = eventCheckers.get(event);
+
+        if (checker == null) {
+            return emptyList();
+        }
+
+        Map<Event, List<String>> errors = results.errorsOf(caseData);
+        List<String> eventErrors = errors.get(event);
+
+        if (eventErrors == null) {
+            // not computeIfAbsent, the submission checker validates other events of the same case data in turn
+            eventErrors = List.copyOf(checker.validate(caseData));
+            errors.put(event, eventErrors);
+        }
+
+        return eventErrors;
     }
 
     public boolean isCompleted(Event event, CaseData caseData) {
+        return isCompleted(event, caseData, new ValidationResults(caseData));
+    }
+
+    public boolean isCompleted(Event event, CaseData caseData, ValidationResults results) {
         return ofNullable(eventCheckers.get(event))
-            .map(validator -> validator.isCompleted(caseData))
+            .map(validator -> validator.isCompletedWhenValid()
+                ? validate(event, caseData, results).isEmpty()
+                : validator.isCompleted(caseData))
             .orElse(false);
     }
 
@@ -147,9 +172,12 @@ public class EventsChecker {
     }
 
     public boolean isAvailable(Event event, CaseData caseData) {
-        addCheckersBasedOnToggle();
+        return isAvailable(event, caseData, new ValidationResults(caseData));
+    }
+
+    public boolean isAvailable(Event event, CaseData caseData, ValidationResults results) {
         return ofNullable(eventCheckers.get(event))
-            .map(validator -> validator.isAvailable(caseData))
+            .map(validator -> validator.isAvailable(caseData, results))
             .orElse(true);
     }
 }
@@ -27,6 +27,11 @@ public class GroundsChecker extends PropertiesChecker {
         }
     }
 
+    @Override
+    public boolean isCompletedWhenValid() {
+        return true;
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         return isGroundsStarted(caseData.getGrounds()) || isEPOGroundsStarted(caseData.getGroundsForEPO());
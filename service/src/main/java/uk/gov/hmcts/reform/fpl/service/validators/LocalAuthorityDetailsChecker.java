@@ -146,6 +146,11 @@ public class LocalAuthorityDetailsChecker implements EventChecker {
         return errors;
     }
 
+    @Override
+    public boolean isCompletedWhenValid() {
+        return true;
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         return isNotEmpty(unwrapElements(caseData.getLocalAuthorities()));
@@ -24,6 +24,11 @@ public class OrganisationDetailsChecker extends PropertiesChecker {
         return super.validate(caseData, List.of("applicants", "solicitor"));
     }
 
+    @Override
+    public boolean isCompletedWhenValid() {
+        return true;
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         final List<Applicant> applicants = ElementUtils.unwrapElements(caseData.getAllApplicants());
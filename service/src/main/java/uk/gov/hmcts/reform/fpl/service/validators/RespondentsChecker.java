@@ -30,6 +30,11 @@ public class RespondentsChecker extends PropertiesChecker {
         return errors;
     }
 
+    @Override
+    public boolean isCompletedWhenValid() {
+        return true;
+    }
+
     @Override
     public boolean isStarted(CaseData caseData) {
         final List<Respondent> respondents = unwrapElements(caseData.getAllRespondents());
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.fpl.service.validators;
+
+import uk.gov.hmcts.reform.fpl.enums.Event;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Validation errors of the events of one case data instance, shared by everything built from it within a single
+ * call, such as the task list and the submission errors, so that each event is validated only once. Create one for
+ * each call and do not keep it, the results are not updated when the case data changes.
+ */
+public class ValidationResults {
+
+    private final CaseData caseData;
+    private final Map<Event, List<String>> errors = new ConcurrentHashMap<>();
+
+    public ValidationResults(CaseData caseData) {
+        this.caseData = requireNonNull(caseData);
+    }
+
+    Map<Event, List<String>> errorsOf(CaseData caseData) {
+        if (caseData != this.caseData) {
+            throw new IllegalArgumentException("Validation results belong to a different case data");
+        }
+
+        return errors;
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.fpl.validation;
+
+import com.google.common.base.Stopwatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import uk.gov.hmcts.reform.fpl.model.Applicant;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.Child;
+import uk.gov.hmcts.reform.fpl.model.HearingBooking;
+import uk.gov.hmcts.reform.fpl.model.Other;
+import uk.gov.hmcts.reform.fpl.model.Respondent;
+import uk.gov.hmcts.reform.fpl.validation.groups.EPOGroup;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.validation.Validator;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Builds the Bean Validation metadata of the case models and validation groups before the service reports ready,
+ * rather than on the first callbacks after a deployment. Application runners complete before the readiness state
+ * changes to accepting traffic.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "warmUp.validation.enabled", matchIfMissing = true)
+@RequiredArgsConstructor(onConstructor_ = {@Autowired})
+public class ValidatorWarmUp implements ApplicationRunner {
+
+    private static final String MODEL_PACKAGE = "uk.gov.hmcts.reform.fpl";
+
+    // collections of generic elements hide their types, so the models behind them are listed explicitly
+    private static final List<Class<?>> MODELS = List.of(
+        CaseData.class, HearingBooking.class, Respondent.class, Child.class, Applicant.class, Other.class);
+
+    private final Validator validator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Set<Class<?>> models = buildMetadata();
+        List<Class<?>> groups = findGroups();
+
+        CaseData caseData = CaseData.builder().build();
+        for (Class<?> group : groups) {
+            try {
+                validator.validate(caseData, group);
+            } catch (RuntimeException e) {
+                log.warn("Could not warm up validation group {}", group.getSimpleName(), e);
+            }
+        }
+
+        log.info("Validation of {} models and {} groups warmed up in {} ms",
+            models.size(), groups.size(), stopwatch.elapsed(MILLISECONDS));
+    }
+
+    Set<Class<?>> buildMetadata() {
+        Set<Class<?>> visited = new LinkedHashSet<>();
+        MODELS.forEach(model -> buildMetadata(model, visited));
+        return visited;
+    }
+
+    List<Class<?>> findGroups() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter((reader, readerFactory) -> reader.getClassMetadata().isInterface());
+
+        return scanner.findCandidateComponents(EPOGroup.class.getPackageName()).stream()
+            .map(BeanDefinition::getBeanClassName)
+            .map(name -> ClassUtils.resolveClassName(name, getClass().getClassLoader()))
+            .collect(toList());
+    }
+
+    private void buildMetadata(Class<?> type, Set<Class<?>> visited) {
+        if (!type.getName().startsWith(MODEL_PACKAGE) || !visited.add(type)) {
+            return;
+        }
+
+        validator.getConstraintsForClass(type).getConstrainedProperties().forEach(property -> {
+            if (property.isCascaded()) {
+                buildMetadata(property.getElementClass(), visited);
+            }
+            property.getConstrainedContainerElementTypes().stream()
+                .filter(ContainerElementTypeDescriptor::isCascaded)
+                .forEach(element -> buildMetadata(element.getElementClass(), visited));
+        });
+    }
+}
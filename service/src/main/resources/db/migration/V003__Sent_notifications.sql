@@ -0,0 +1,8 @@
+CREATE TABLE sent_notifications
+(
+  NOTIFICATION_KEY VARCHAR(64) NOT NULL,
+  SENT_AT TIMESTAMP NOT NULL,
+  PRIMARY KEY (NOTIFICATION_KEY)
+);
+
+CREATE INDEX idx_sent_notifications_sent_at ON sent_notifications(SENT_AT);
@@ -0,0 +1,14 @@
+CREATE TABLE draft_order_previews
+(
+  TOKEN VARCHAR(36) NOT NULL,
+  DIGEST VARCHAR(64) NOT NULL,
+  CASE_ID BIGINT NOT NULL,
+  CONTENT BYTEA NOT NULL,
+  MEDIA_TYPE VARCHAR(100) NOT NULL,
+  FILE_NAME VARCHAR(200) NOT NULL,
+  CREATED_AT TIMESTAMP NOT NULL,
+  PRIMARY KEY (TOKEN)
+);
+
+CREATE INDEX idx_draft_order_previews_digest ON draft_order_previews(DIGEST);
+CREATE INDEX idx_draft_order_previews_created_at ON draft_order_previews(CREATED_AT);
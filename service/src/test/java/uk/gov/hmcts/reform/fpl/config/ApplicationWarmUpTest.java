@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.google.common.base.Stopwatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.service.CaseConverter;
+import uk.gov.hmcts.reform.fpl.service.TaskListRenderer;
+import uk.gov.hmcts.reform.fpl.service.TaskListService;
+import uk.gov.hmcts.reform.fpl.service.summary.CaseSummaryService;
+import uk.gov.hmcts.reform.fpl.service.validators.CaseSubmissionChecker;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.enums.State.OPEN;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationWarmUpTest {
+
+    private static final Resource[] CASES = {new ClassPathResource("warm-up/open-case.json")};
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .addModule(new ParameterNamesModule())
+        .addModule(new Jdk8Module())
+        .addModule(new JavaTimeModule())
+        .build();
+
+    private final AtomicInteger feignClientTouches = new AtomicInteger();
+
+    private final Object feignClient = new Object() {
+        @Override
+        public String toString() {
+            feignClientTouches.incrementAndGet();
+            return "feignClient";
+        }
+    };
+
+    @Mock
+    private ApplicationContext context;
+
+    @Mock
+    private TaskListService taskListService;
+
+    @Mock
+    private TaskListRenderer taskListRenderer;
+
+    @Mock
+    private CaseSubmissionChecker caseSubmissionChecker;
+
+    @Mock
+    private CaseSummaryService caseSummaryService;
+
+    @Test
+    void shouldTouchFeignClientsAndExerciseBundledCases() {
+        when(context.getBeansWithAnnotation(FeignClient.class)).thenReturn(Map.of("feignClient", feignClient));
+
+        warmUp(2, 60).run(new DefaultApplicationArguments());
+
+        ArgumentCaptor<CaseData> caseData = ArgumentCaptor.forClass(CaseData.class);
+
+        verify(taskListService, times(2)).getTasksForOpenCase(caseData.capture());
+        verify(caseSubmissionChecker, times(2)).validateAsGroups(any());
+        verify(taskListRenderer, times(2)).render(any(), any());
+        verify(caseSummaryService, times(2)).generateSummaryFields(any());
+
+        assertThat(caseData.getValue().getState()).isEqualTo(OPEN);
+        assertThat(caseData.getValue().getCaseName()).isEqualTo("Warm-up case");
+        assertThat(caseData.getValue().getAllChildren()).hasSize(2);
+        assertThat(caseData.getValue().getHearingDetails()).hasSize(1);
+        assertThat(feignClientTouches).hasValue(1);
+    }
+
+    @Test
+    void shouldNotWaitForWarmUpBeyondBudget() {
+        when(taskListService.getTasksForOpenCase(any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        warmUp(1, 0).run(new DefaultApplicationArguments());
+
+        assertThat(stopwatch.elapsed(SECONDS)).isLessThan(5);
+    }
+
+    @Test
+    void shouldNotFailStartupWhenWarmUpFails() {
+        when(taskListService.getTasksForOpenCase(any())).thenThrow(new IllegalStateException("warm-up failure"));
+
+        assertThatCode(() -> warmUp(1, 60).run(new DefaultApplicationArguments())).doesNotThrowAnyException();
+    }
+
+    private ApplicationWarmUp warmUp(int iterations, long budgetSeconds) {
+        return new ApplicationWarmUp(context, mapper, new CaseConverter(mapper), taskListService, taskListRenderer,
+            caseSubmissionChecker, caseSummaryService, CASES, iterations, budgetSeconds);
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import uk.gov.hmcts.reform.fpl.request.FeatureToggleSnapshot;
+import uk.gov.hmcts.reform.fpl.request.RequestData;
+import uk.gov.hmcts.reform.fpl.request.RequestDataCache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncTaskDecoratorTest {
+
+    @Mock
+    private ApplicationContext context;
+
+    @Mock
+    private RequestData requestData;
+
+    @AfterEach
+    void tearDown() {
+        FeatureToggleSnapshot.close();
+    }
+
+    @Test
+    void shouldShareFeatureToggleSnapshotAndRequestDataOfCaller() {
+        when(context.getBean(RequestData.class)).thenReturn(requestData);
+        when(requestData.userId()).thenReturn("user");
+
+        FeatureToggleSnapshot.open();
+        FeatureToggleSnapshot callerSnapshot = FeatureToggleSnapshot.get().orElseThrow();
+
+        AtomicReference<Optional<FeatureToggleSnapshot>> taskSnapshot = new AtomicReference<>();
+        AtomicReference<String> taskUserId = new AtomicReference<>();
+
+        Runnable task = new AsyncConfiguration.AsyncTaskDecorator(context).decorate(() -> {
+            taskSnapshot.set(FeatureToggleSnapshot.get());
+            taskUserId.set(RequestDataCache.get().map(RequestData::userId).orElse(null));
+        });
+
+        CompletableFuture.runAsync(task).join();
+
+        assertThat(taskSnapshot.get()).containsSame(callerSnapshot);
+        assertThat(taskUserId.get()).isEqualTo("user");
+    }
+
+    @Test
+    void shouldGiveTaskItsOwnSnapshotWhenCallerHasNone() {
+        when(context.getBean(RequestData.class)).thenReturn(requestData);
+
+        AtomicReference<Optional<FeatureToggleSnapshot>> taskSnapshot = new AtomicReference<>();
+
+        Runnable task = new AsyncConfiguration.AsyncTaskDecorator(context)
+            .decorate(() -> taskSnapshot.set(FeatureToggleSnapshot.get()));
+
+        CompletableFuture.runAsync(task).join();
+
+        assertThat(taskSnapshot.get()).isPresent();
+        assertThat(FeatureToggleSnapshot.get()).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.model.Court;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceDataRegistryTest {
+
+    private static final Court COURT_1 = new Court("Court 1", "court1@example.com", "11");
+    private static final Court COURT_2 = new Court("Court 2", "court2@example.com", "22");
+
+    private final ReferenceDataRegistry underTest = new ReferenceDataRegistry(
+        "SA=>Swansea;HN=>Hillingdon",
+        "swansea.gov.uk=>SA;hillingdon.gov.uk=>HN",
+        "SA=>sa@example.com;HN=>hn@example.com",
+        "SA=>ORGSA;HN=>ORGHN",
+        "SA=>1|2",
+        "SA=>Court 1:court1@example.com:11;HN=>Court 1:court1@example.com:11|Court 2:court2@example.com:22",
+        "SA=>Cafcass Cymru:cafcass@example.com",
+        "ORGEXT=>SA|HN",
+        "ORGHN=>HN|SA");
+
+    @Test
+    void shouldIndexLocalAuthoritiesByCode() {
+        assertThat(underTest.getLocalAuthorityName("SA")).contains("Swansea");
+        assertThat(underTest.getLocalAuthoritySharedInbox("HN")).contains("hn@example.com");
+        assertThat(underTest.getLocalAuthorityId("HN")).contains("ORGHN");
+        assertThat(underTest.getLocalAuthorityUsers("SA")).contains(List.of("1", "2"));
+        assertThat(underTest.getLocalAuthorityName("XX")).isEmpty();
+    }
+
+    @Test
+    void shouldIndexLocalAuthoritiesByEmailDomain() {
+        assertThat(underTest.getLocalAuthorityCodeByEmailDomain("hillingdon.gov.uk")).contains("HN");
+        assertThat(underTest.getLocalAuthorityCodeByEmailDomain("example.com")).isEmpty();
+    }
+
+    @Test
+    void shouldIndexLocalAuthoritiesByOrganisationIdIgnoringCase() {
+        assertThat(underTest.getLocalAuthorityCodesByOrgId("orgsa")).containsExactly("SA");
+        assertThat(underTest.getLocalAuthorityCodesByOrgId("ORGXX")).isEmpty();
+        assertThat(underTest.getLocalAuthorityCodesByOrgId(null)).isEmpty();
+    }
+
+    @Test
+    void shouldIndexCourts() {
+        assertThat(underTest.getCourts("HN")).contains(List.of(COURT_1, COURT_2));
+        assertThat(underTest.getCourtByCode("22")).contains(COURT_2);
+        assertThat(underTest.getCourtByEmail("COURT1@example.com")).contains(COURT_1);
+        assertThat(underTest.getCourtByCode(null)).isEmpty();
+        assertThat(underTest.getCourtByEmail("unknown@example.com")).isEmpty();
+    }
+
+    @Test
+    void shouldIndexCafcassAndExternalOrganisations() {
+        assertThat(underTest.getCafcass("SA")).hasValueSatisfying(cafcass ->
+            assertThat(cafcass.getEmail()).isEqualTo("cafcass@example.com"));
+        assertThat(underTest.getEpsLocalAuthorities("ORGEXT")).contains(List.of("SA", "HN"));
+        assertThat(underTest.getMlaLocalAuthorities("ORGHN")).contains(List.of("HN", "SA"));
+        assertThat(underTest.getEpsLocalAuthorities(null)).isEmpty();
+    }
+
+    @Test
+    void shouldLeaveMappingsNotProvidedToBuilderEmpty() {
+        ReferenceDataRegistry registry = ReferenceDataRegistry.builder().localAuthorityNames("SA=>Swansea").build();
+
+        assertThat(registry.getLocalAuthorityName("SA")).contains("Swansea");
+        assertThat(registry.getCourts("SA")).isEmpty();
+        assertThat(registry.getLocalAuthorityCodesByOrgId("ORGSA")).isEmpty();
+    }
+}
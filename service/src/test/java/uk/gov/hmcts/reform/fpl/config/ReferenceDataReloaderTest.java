@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.fpl.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceDataReloaderTest {
+
+    @TempDir
+    Path directory;
+
+    private final MockEnvironment environment = new MockEnvironment()
+        .withProperty("fpl.local_authority_code_to_name.mapping", "SA=>Swansea")
+        .withProperty("fpl.local_authority_email_to_code.mapping", "swansea.gov.uk=>SA")
+        .withProperty("fpl.local_authority_code_to_shared_inbox.mapping", "SA=>sa@example.com")
+        .withProperty("fpl.local_authority_user.mapping", "SA=>1|2")
+        .withProperty("fpl.local_authority_code_to_hmcts_court.mapping", "SA=>Court:court@example.com:11")
+        .withProperty("fpl.local_authority_code_to_cafcass.mapping", "SA=>Cafcass:cafcass@example.com");
+
+    private final ReferenceDataRegistry referenceData = new ReferenceDataRegistry(
+        "SA=>Swansea", "swansea.gov.uk=>SA", "SA=>sa@example.com", "", "SA=>1|2",
+        "SA=>Court:court@example.com:11", "SA=>Cafcass:cafcass@example.com", "", "");
+
+    private ReferenceDataReloader underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ReferenceDataReloader(referenceData, environment, directory.toString(), 3600);
+        underTest.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.stop();
+    }
+
+    @Test
+    void shouldNotReloadWhenMappingsHaveNotChanged() {
+        assertThat(underTest.reloadIfChanged()).isFalse();
+        assertThat(referenceData.getLocalAuthorityName("SA")).contains("Swansea");
+    }
+
+    @Test
+    void shouldReloadWhenMappingFileChanges() throws IOException {
+        Files.writeString(directory.resolve("local-authority-code-to-name-mapping"), "SA=>Swansea;HN=>Hillingdon\n");
+
+        assertThat(underTest.reloadIfChanged()).isTrue();
+        assertThat(referenceData.getLocalAuthorityName("HN")).contains("Hillingdon");
+        assertThat(referenceData.getCourtByCode("11")).isPresent();
+        assertThat(underTest.reloadIfChanged()).isFalse();
+    }
+
+    @Test
+    void shouldKeepCurrentReferenceDataWhenChangedMappingIsInvalid() throws IOException {
+        Files.writeString(directory.resolve("local-authority-code-to-hmcts-court-mapping"), "SA=>Court:");
+
+        assertThat(underTest.reloadIfChanged()).isFalse();
+        assertThat(referenceData.getCourtByCode("11")).isPresent();
+        assertThat(referenceData.getLocalAuthorityName("SA")).contains("Swansea");
+    }
+}
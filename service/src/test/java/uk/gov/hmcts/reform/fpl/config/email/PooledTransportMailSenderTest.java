@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.fpl.config.email;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+
+import static javax.mail.Message.RecipientType.TO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PooledTransportMailSenderTest {
+
+    private final List<Transport> connectedTransports = new ArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PooledTransportMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new PooledTransportMailSender(1, meterRegistry) {
+            @Override
+            protected Transport connectTransport() {
+                Transport transport = mock(Transport.class);
+                given(transport.isConnected()).willReturn(true);
+                connectedTransports.add(transport);
+                return transport;
+            }
+        };
+    }
+
+    @Test
+    void shouldReuseConnectionAcrossSends() throws Exception {
+        mailSender.send(message());
+        mailSender.send(message(), message());
+
+        assertThat(connectedTransports).hasSize(1);
+        assertThat(connections("opened")).isEqualTo(1);
+        assertThat(connections("reused")).isEqualTo(1);
+        assertThat(meterRegistry.get("email.send").timer().count()).isEqualTo(2);
+        verify(connectedTransports.get(0), times(3)).sendMessage(any(), any());
+        verify(connectedTransports.get(0), never()).close();
+    }
+
+    @Test
+    void shouldOpenNewConnectionWhenPooledConnectionClosedByServer() throws Exception {
+        mailSender.send(message());
+        given(connectedTransports.get(0).isConnected()).willReturn(false);
+
+        mailSender.send(message());
+
+        assertThat(connectedTransports).hasSize(2);
+        verify(connectedTransports.get(0)).close();
+        verify(connectedTransports.get(1)).sendMessage(any(), any());
+    }
+
+    @Test
+    void shouldSendRemainingMessagesWhenOneFails() throws Exception {
+        MimeMessage failing = message();
+        MimeMessage succeeding = message();
+
+        mailSender.send(message());
+        Transport transport = connectedTransports.get(0);
+        willThrow(new MessagingException("Rejected")).given(transport).sendMessage(eq(failing), any());
+
+        assertThatThrownBy(() -> mailSender.send(failing, succeeding))
+            .isInstanceOf(MailSendException.class)
+            .satisfies(exception -> assertThat(((MailSendException) exception).getFailedMessages())
+                .containsOnlyKeys(failing));
+
+        verify(transport).sendMessage(eq(succeeding), any());
+        assertThat(meterRegistry.get("email.send").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCloseIdleConnectionsOnDestroy() throws Exception {
+        mailSender.send(message());
+
+        mailSender.destroy();
+
+        verify(connectedTransports.get(0)).close();
+    }
+
+    private double connections(String connection) {
+        return meterRegistry.get("email.connections").tag("connection", connection).counter().count();
+    }
+
+    private static MimeMessage message() throws MessagingException {
+        MimeMessage message = new MimeMessage((Session) null);
+        message.setRecipient(TO, new InternetAddress("recipient@example.com"));
+        message.setText("");
+        return message;
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.fpl.handlers;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -13,11 +14,14 @@ import uk.gov.hmcts.reform.fpl.service.TaskListRenderer;
 import uk.gov.hmcts.reform.fpl.service.TaskListService;
 import uk.gov.hmcts.reform.fpl.service.ccd.CoreCaseDataService;
 import uk.gov.hmcts.reform.fpl.service.validators.CaseSubmissionChecker;
+import uk.gov.hmcts.reform.fpl.service.validators.ValidationResults;
 
 import java.util.List;
 import java.util.Map;
 
 import static org.apache.commons.lang3.RandomUtils.nextLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -67,14 +71,16 @@ class CaseEventHandlerTest {
                 .errors(List.of("Change case name"))
                 .build());
 
-        when(caseSubmissionChecker.validateAsGroups(caseData)).thenReturn(eventsErrors);
-        when(taskListService.getTasksForOpenCase(caseData)).thenReturn(tasks);
+        when(caseSubmissionChecker.validateAsGroups(eq(caseData), any())).thenReturn(eventsErrors);
+        when(taskListService.getTasksForOpenCase(eq(caseData), any())).thenReturn(tasks);
         when(taskListRenderer.render(tasks, eventsErrors)).thenReturn(renderedTaskLists);
 
         caseEventHandler.handleCaseDataChange(caseDataChanged);
 
-        verify(taskListService).getTasksForOpenCase(caseData);
-        verify(caseSubmissionChecker).validateAsGroups(caseData);
+        final ArgumentCaptor<ValidationResults> validationResults = ArgumentCaptor.forClass(ValidationResults.class);
+
+        verify(taskListService).getTasksForOpenCase(eq(caseData), validationResults.capture());
+        verify(caseSubmissionChecker).validateAsGroups(caseData, validationResults.getValue());
         verify(taskListRenderer).render(tasks, eventsErrors);
 
         verify(coreCaseDataService).triggerEvent(
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.fpl.jobs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreviewStore;
+import uk.gov.hmcts.reform.fpl.utils.extension.TestLogger;
+import uk.gov.hmcts.reform.fpl.utils.extension.TestLogs;
+import uk.gov.hmcts.reform.fpl.utils.extension.TestLogsExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, TestLogsExtension.class})
+class DraftOrderPreviewsPurgerTest {
+
+    @Mock
+    private JobKey jobKey;
+
+    @Mock
+    private JobDetail jobDetail;
+
+    @Mock
+    private JobExecutionContext jobExecutionContext;
+
+    @Mock
+    private DraftOrderPreviewStore previewStore;
+
+    @TestLogs
+    private TestLogger logs = new TestLogger(DraftOrderPreviewsPurger.class);
+
+    @InjectMocks
+    private DraftOrderPreviewsPurger underTest;
+
+    @BeforeEach
+    void init() {
+        when(jobKey.getName()).thenReturn("testName");
+        when(jobDetail.getKey()).thenReturn(jobKey);
+        when(jobExecutionContext.getJobDetail()).thenReturn(jobDetail);
+    }
+
+    @Test
+    void shouldPurgeExpiredPreviews() {
+        when(previewStore.purge()).thenReturn(3L);
+
+        underTest.execute(jobExecutionContext);
+
+        verify(previewStore).purge();
+        assertThat(logs.getInfos()).containsExactly(
+            "Job 'testName' started",
+            "Job 'testName' removed 3 draft order preview(s)",
+            "Job 'testName' finished");
+    }
+}
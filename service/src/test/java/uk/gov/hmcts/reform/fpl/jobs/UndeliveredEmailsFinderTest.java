@@ -23,10 +23,12 @@ import uk.gov.service.notify.NotificationList;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -34,6 +36,10 @@ import static org.mockito.Mockito.when;
 @ExtendWith({MockitoExtension.class, TestLogsExtension.class})
 class UndeliveredEmailsFinderTest {
 
+    private static final UUID ID_1 = UUID.randomUUID();
+    private static final UUID ID_2 = UUID.randomUUID();
+    private static final UUID ID_3 = UUID.randomUUID();
+
     @Mock
     private JobKey jobKey;
 
@@ -77,12 +83,16 @@ class UndeliveredEmailsFinderTest {
     void shouldEmitUndeliveredEmailsFoundEvent() {
         when(notificationList.getNotifications()).thenReturn(List.of(notification1, notification2));
 
-        when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(23)));
+        when(notification1.getId()).thenReturn(ID_1);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusHours(12));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(10)));
         when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
         when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
         when(notification1.getReference()).thenReturn(Optional.of("Reference"));
 
-        when(notification2.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(10)));
+        when(notification2.getId()).thenReturn(ID_2);
+        when(notification2.getCreatedAt()).thenReturn(DateTime.now().minusHours(23));
+        when(notification2.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(22)));
         when(notification2.getEmailAddress()).thenReturn(Optional.of("test2@test.com"));
         when(notification2.getSubject()).thenReturn(Optional.of("Subject 2"));
         when(notification2.getReference()).thenReturn(Optional.of("Reference 2"));
@@ -109,6 +119,8 @@ class UndeliveredEmailsFinderTest {
     void shouldEmitUndeliveredEmailsFoundEventWhenEmailFailedWithinLastDay() {
         when(notificationList.getNotifications()).thenReturn(List.of(notification1));
 
+        when(notification1.getId()).thenReturn(ID_1);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusDays(1).plusHours(1));
         when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusDays(1).plusHours(1)));
         when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
         when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
@@ -129,6 +141,8 @@ class UndeliveredEmailsFinderTest {
     void shouldIgnoreEmailsThatFailedEarlierThanDayAgo() {
         when(notificationList.getNotifications()).thenReturn(List.of(notification1));
 
+        when(notification1.getId()).thenReturn(ID_1);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusDays(1).minusHours(2));
         when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusDays(1).minusHours(1)));
 
         underTest.execute(jobExecutionContext);
@@ -142,6 +156,8 @@ class UndeliveredEmailsFinderTest {
     void shouldIgnoreEmailsThatFailedButDidNotReachMaxDeliveryAttempts() {
         when(notificationList.getNotifications()).thenReturn(List.of(notification1));
 
+        when(notification1.getId()).thenReturn(ID_1);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusHours(1));
         when(notification1.getCompletedAt()).thenReturn(Optional.empty());
 
         underTest.execute(jobExecutionContext);
@@ -151,6 +167,100 @@ class UndeliveredEmailsFinderTest {
         assertThat(logs.get()).contains("Job 'testName' did not find any undelivered emails");
     }
 
+    @Test
+    void shouldEmitUndeliveredEmailsFoundEventWhenEmailCreatedBeforeLastDayFailedAfterRetries() {
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1));
+
+        when(notification1.getId()).thenReturn(ID_1);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusDays(3));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(2)));
+        when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
+        when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
+        when(notification1.getReference()).thenReturn(Optional.of("Reference"));
+
+        underTest.execute(jobExecutionContext);
+
+        List<UndeliveredEmail> undeliveredEmails = List.of(UndeliveredEmail.builder()
+            .recipient("test@test.com")
+            .subject("Subject")
+            .reference("Reference")
+            .build());
+
+        verify(applicationEventPublisher).publishEvent(new UndeliveredEmailsFound(undeliveredEmails));
+    }
+
+    @Test
+    void shouldPageThroughNotificationsUntilCreatedBeforeRetryPeriod() throws Exception {
+        NotificationList olderPage = mock(NotificationList.class);
+        Notification notification3 = mock(Notification.class);
+
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1));
+        when(notificationList.getNextPageLink()).thenReturn(Optional.of("nextPage"));
+        when(notification1.getId()).thenReturn(ID_1);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusHours(1));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(1)));
+        when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
+        when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
+        when(notification1.getReference()).thenReturn(Optional.of("Reference"));
+
+        when(notificationClient.getNotifications("failed", "email", null, ID_1.toString())).thenReturn(olderPage);
+        when(olderPage.getNotifications()).thenReturn(List.of(notification2, notification3));
+        when(olderPage.getNextPageLink()).thenReturn(Optional.of("nextPage"));
+        when(notification2.getId()).thenReturn(ID_2);
+        when(notification2.getCreatedAt()).thenReturn(DateTime.now().minusDays(2));
+        when(notification2.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(2)));
+        when(notification2.getEmailAddress()).thenReturn(Optional.of("test2@test.com"));
+        when(notification2.getSubject()).thenReturn(Optional.of("Subject 2"));
+        when(notification2.getReference()).thenReturn(Optional.of("Reference 2"));
+        when(notification3.getCreatedAt()).thenReturn(DateTime.now().minusDays(5));
+
+        underTest.execute(jobExecutionContext);
+
+        List<UndeliveredEmail> undeliveredEmails = List.of(
+            UndeliveredEmail.builder()
+                .recipient("test@test.com")
+                .subject("Subject")
+                .reference("Reference")
+                .build(),
+            UndeliveredEmail.builder()
+                .recipient("test2@test.com")
+                .subject("Subject 2")
+                .reference("Reference 2")
+                .build()
+        );
+
+        verify(applicationEventPublisher).publishEvent(new UndeliveredEmailsFound(undeliveredEmails));
+        verify(notificationClient, never()).getNotifications("failed", "email", null, ID_2.toString());
+    }
+
+    @Test
+    void shouldReportEmailOnceWhenReturnedOnMoreThanOnePage() throws Exception {
+        NotificationList olderPage = mock(NotificationList.class);
+
+        when(notificationList.getNotifications()).thenReturn(List.of(notification1));
+        when(notificationList.getNextPageLink()).thenReturn(Optional.of("nextPage"));
+        when(notification1.getId()).thenReturn(ID_3);
+        when(notification1.getCreatedAt()).thenReturn(DateTime.now().minusHours(1));
+        when(notification1.getCompletedAt()).thenReturn(Optional.of(DateTime.now().minusHours(1)));
+        when(notification1.getEmailAddress()).thenReturn(Optional.of("test@test.com"));
+        when(notification1.getSubject()).thenReturn(Optional.of("Subject"));
+        when(notification1.getReference()).thenReturn(Optional.of("Reference"));
+
+        when(notificationClient.getNotifications("failed", "email", null, ID_3.toString())).thenReturn(olderPage);
+        when(olderPage.getNotifications()).thenReturn(List.of(notification1));
+        when(olderPage.getNextPageLink()).thenReturn(Optional.empty());
+
+        underTest.execute(jobExecutionContext);
+
+        List<UndeliveredEmail> undeliveredEmails = List.of(UndeliveredEmail.builder()
+            .recipient("test@test.com")
+            .subject("Subject")
+            .reference("Reference")
+            .build());
+
+        verify(applicationEventPublisher).publishEvent(new UndeliveredEmailsFound(undeliveredEmails));
+    }
+
     @Test
     void shouldLogFailureWhenUnexpectedExceptionThrown() {
         final Exception exception = new RuntimeException("Test");
@@ -6,6 +6,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.document.domain.Document;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
@@ -13,6 +14,7 @@ import uk.gov.hmcts.reform.fpl.model.document.SealType;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 
 import java.io.UncheckedIOException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -40,6 +42,9 @@ class DocumentSealingServiceTest {
     @Mock
     private DocumentDownloadService documentDownloadService;
 
+    @Spy
+    private ParallelTaskRunner parallelTaskRunner = new ParallelTaskRunner(Runnable::run);
+
     @InjectMocks
     private DocumentSealingService documentSealingService;
 
@@ -103,4 +108,30 @@ class DocumentSealingServiceTest {
         assertThrows(UncheckedIOException.class, () ->
             documentSealingService.sealDocument(inputDocumentReference, SealType.ENGLISH));
     }
+
+    @Test
+    void shouldSealAndUploadDocumentsInOrder() {
+        final byte[] inputDocumentBinaries = readBytes("documents/document.pdf");
+        final byte[] expectedSealedDocumentBinaries = readBytes("documents/document-sealed.pdf");
+        final DocumentReference firstDocument = testDocumentReference("first.doc");
+        final DocumentReference secondDocument = testDocumentReference("second.pdf");
+        final Document firstSealedDocument = testDocument();
+        final Document secondSealedDocument = testDocument();
+
+        when(documentDownloadService.downloadDocument(any())).thenReturn(inputDocumentBinaries);
+        when(documentConversionService.convertToPdf(eq(inputDocumentBinaries), any()))
+            .thenReturn(inputDocumentBinaries);
+        when(uploadDocumentService.uploadPDF(any(), eq("first.pdf"))).thenReturn(firstSealedDocument);
+        when(uploadDocumentService.uploadPDF(any(), eq("second.pdf"))).thenReturn(secondSealedDocument);
+
+        final List<DocumentReference> actualSealedDocuments = documentSealingService
+            .sealDocuments(List.of(firstDocument, secondDocument), SealType.ENGLISH);
+
+        assertThat(actualSealedDocuments)
+            .containsExactly(buildFromDocument(firstSealedDocument), buildFromDocument(secondSealedDocument));
+        verify(uploadDocumentService).uploadPDF(actualDocumentBinaries.capture(), eq("first.pdf"));
+        verify(uploadDocumentService).uploadPDF(actualDocumentBinaries.capture(), eq("second.pdf"));
+        assertThat(actualDocumentBinaries.getAllValues())
+            .allSatisfy(binaries -> assertThat(binaries).isEqualTo(expectedSealedDocumentBinaries));
+    }
 }
@@ -11,6 +11,8 @@ import uk.gov.hmcts.reform.fpl.exceptions.EmailFailedSendException;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 import uk.gov.hmcts.reform.fpl.service.email.EmailService;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import javax.mail.internet.MimeMessage;
 
 import static java.lang.String.join;
@@ -22,7 +24,9 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.fpl.model.email.EmailAttachment.document;
 import static uk.gov.hmcts.reform.fpl.model.email.EmailAttachment.json;
 
 @ExtendWith(SpringExtension.class)
@@ -43,7 +47,7 @@ class EmailServiceTest {
 
     @BeforeEach
     void setup() {
-        emailService = new EmailService(javaMailSender);
+        emailService = new EmailService(javaMailSender, 1);
         given(javaMailSender.createMimeMessage()).willReturn(mimeMessage);
     }
 
@@ -65,6 +69,39 @@ class EmailServiceTest {
         verify(javaMailSender).send(mimeMessage);
     }
 
+    @Test
+    void shouldSplitAttachmentsOverSizeLimitAcrossEmails() throws Exception {
+        byte[] largeContent = new byte[700 * 1024];
+        EmailData emailData = EmailData.builder()
+            .recipient(EMAIL_TO)
+            .subject(EMAIL_SUBJECT)
+            .message("")
+            .attachments(new LinkedHashSet<>(List.of(
+                document("application/pdf", largeContent, "first.pdf"),
+                document("application/pdf", largeContent, "second.pdf"))))
+            .build();
+
+        emailService.sendEmail(EMAIL_FROM, emailData);
+
+        verify(javaMailSender).send(mimeMessage, mimeMessage);
+        verify(mimeMessage).setSubject(EMAIL_SUBJECT + " (part 1 of 2)");
+        verify(mimeMessage).setSubject(EMAIL_SUBJECT + " (part 2 of 2)");
+    }
+
+    @Test
+    void shouldSendBatchOfEmailsTogether() {
+        emailService.sendEmails(EMAIL_FROM, List.of(TestEmailData.getDefault(), TestEmailData.withoutAttachment()));
+
+        verify(javaMailSender).send(mimeMessage, mimeMessage);
+    }
+
+    @Test
+    void shouldNotSendEmptyBatchOfEmails() {
+        emailService.sendEmails(EMAIL_FROM, List.of());
+
+        verify(javaMailSender, never()).send(any(MimeMessage[].class));
+    }
+
     @Test
     void shouldThrowEmailFailedSendExceptionWhenMailExceptionOnSendEmail() {
         EmailData emailData = TestEmailData.getDefault();
@@ -4,12 +4,14 @@ import com.launchdarkly.sdk.LDUser;
 import com.launchdarkly.sdk.UserAttribute;
 import com.launchdarkly.sdk.server.LDClient;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import uk.gov.hmcts.reform.fpl.request.FeatureToggleSnapshot;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -172,6 +174,38 @@ class FeatureToggleServiceTest {
             eq(false));
     }
 
+    @Test
+    void shouldEvaluateToggleOnceWithinSnapshot() {
+        givenToggle(true);
+
+        FeatureToggleSnapshot.open();
+        try {
+            assertThat(service.isCtscEnabled(LOCAL_AUTHORITY)).isTrue();
+            givenToggle(false);
+            assertThat(service.isCtscEnabled(LOCAL_AUTHORITY)).isTrue();
+            assertThat(service.isCtscEnabled("other_local_authority")).isFalse();
+
+            assertThat(FeatureToggleSnapshot.get()).hasValueSatisfying(snapshot -> {
+                assertThat(snapshot.getEvaluations()).isEqualTo(2);
+                assertThat(snapshot.getEvaluationsAvoided()).isEqualTo(1);
+            });
+        } finally {
+            FeatureToggleSnapshot.close();
+        }
+
+        verify(ldClient, times(2)).boolVariation(eq("CTSC"), any(), eq(false));
+    }
+
+    @Test
+    void shouldEvaluateToggleEveryTimeWithoutSnapshot() {
+        givenToggle(true);
+
+        service.isCtscEnabled(LOCAL_AUTHORITY);
+        service.isCtscEnabled(LOCAL_AUTHORITY);
+
+        verify(ldClient, times(2)).boolVariation(eq("CTSC"), any(), eq(false));
+    }
+
     private static Stream<Arguments> userAttributesTestSource() {
         return Stream.of(
             Arguments.of(
@@ -168,6 +168,45 @@ class HearingVenueLookUpServiceTest {
             "Crown Building, Aberdare Hearing Centre, Aberdare, CF44 7DW")).isEqualTo("Venue");
     }
 
+    @Test
+    void shouldReturnVenueIdIgnoringCase() {
+        assertThat(hearingVenueLookUpService.getVenueId(
+            "crown building, aberdare hearing centre, ABERDARE, cf44 7dw")).isEqualTo("Venue");
+    }
+
+    @Test
+    void shouldReturnEmptyVenueWhenVenueIdNotFound() {
+        assertThat(hearingVenueLookUpService.getHearingVenue("unknown")).isEqualTo(HearingVenue.builder().build());
+    }
+
+    @Nested
+    class HearingVenueSearch {
+
+        @Test
+        void shouldFindVenueByNamePrefix() {
+            assertThat(hearingVenueLookUpService.searchHearingVenues("VEN", 10))
+                .extracting(HearingVenue::getHearingVenueId)
+                .containsExactly("Venue");
+        }
+
+        @Test
+        void shouldFindVenueByMisspeltName() {
+            assertThat(hearingVenueLookUpService.searchHearingVenues("vneue", 10))
+                .extracting(HearingVenue::getHearingVenueId)
+                .containsExactly("Venue");
+        }
+
+        @Test
+        void shouldNotFindVenueWhenQueryDoesNotMatch() {
+            assertThat(hearingVenueLookUpService.searchHearingVenues("Swansea", 10)).isEmpty();
+        }
+
+        @Test
+        void shouldNotFindVenuesForBlankQuery() {
+            assertThat(hearingVenueLookUpService.searchHearingVenues(" ", 10)).isEmpty();
+        }
+    }
+
     @Test
     void shouldReturnOtherWhenNoVenueFound() {
         assertThat(hearingVenueLookUpService.getVenueId("Custom House, Custom Street")).isEqualTo("OTHER");
@@ -0,0 +1,205 @@
+package uk.gov.hmcts.reform.fpl.service;
+
+import com.google.common.base.Stopwatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelTaskRunnerTest {
+
+    private static final Executor REJECTING_EXECUTOR = task -> {
+        throw new RejectedExecutionException("saturated");
+    };
+
+    private ThreadPoolTaskExecutor executor;
+    private ParallelTaskRunner underTest;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+
+        underTest = new ParallelTaskRunner(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldReturnResultsInOrderOfItems() {
+        List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        List<Integer> results = underTest.map(items, item -> {
+            sleep(20 - item);
+            return item * 2;
+        }, 5);
+
+        assertThat(results).isEqualTo(items.stream().map(item -> item * 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldNotExceedMaxConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        underTest.map(IntStream.range(0, 10).boxed().collect(Collectors.toList()), item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(10);
+            running.decrementAndGet();
+            return item;
+        }, 2);
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldRunTasksOnCallingThreadWhenPoolIsSaturated() {
+        List<Integer> results = underTest.map(IntStream.range(0, 10).boxed().collect(Collectors.toList()), item -> {
+            sleep(10);
+            return item;
+        }, 20);
+
+        assertThat(results).hasSize(10);
+    }
+
+    @Test
+    void shouldRethrowFirstFailureOnceAllTasksFinished() {
+        AtomicInteger finished = new AtomicInteger();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            underTest.map(List.of(1, 2, 3, 4), item -> {
+                sleep(10);
+                finished.incrementAndGet();
+                if (item % 2 == 0) {
+                    throw new IllegalStateException("Failed " + item);
+                }
+                return item;
+            }, 2));
+
+        assertThat(exception).hasMessage("Failed 2");
+        assertThat(finished.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReportOutcomeOfEveryTask() {
+        List<ParallelTaskRunner.Outcome<Integer>> outcomes = underTest.mapEach(List.of(1, 2, 3), item -> {
+            if (item == 2) {
+                throw new IllegalStateException("Failed " + item);
+            }
+            if (item == 3) {
+                sleep(1000);
+            }
+            return item;
+        }, 2, Duration.ofMillis(200));
+
+        assertThat(outcomes.get(0).isSuccess()).isTrue();
+        assertThat(outcomes.get(0).getValue()).isEqualTo(1);
+        assertThat(outcomes.get(1).getFailure()).isInstanceOf(IllegalStateException.class);
+        assertThat(outcomes.get(2).getFailure()).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void shouldFailTasksNotFinishedBeforeSharedDeadline() {
+        AtomicInteger started = new AtomicInteger();
+
+        List<ParallelTaskRunner.Outcome<Integer>> outcomes = underTest.mapEachBefore(List.of(1, 2, 3), item -> {
+            started.incrementAndGet();
+            sleep(item == 1 ? 0 : 1000);
+            return item;
+        }, 1, Instant.now().plusMillis(300));
+
+        assertThat(outcomes.get(0).getValue()).isEqualTo(1);
+        assertThat(outcomes.get(1).getFailure()).isInstanceOf(TimeoutException.class);
+        assertThat(outcomes.get(2).getFailure()).isInstanceOf(TimeoutException.class);
+        assertThat(started).hasValue(2);
+    }
+
+    @Test
+    void shouldEnforceTimeoutOfTasksOverflowingSaturatedPool() throws InterruptedException {
+        ExecutorService overflow = Executors.newFixedThreadPool(2);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            ParallelTaskRunner saturated = new ParallelTaskRunner(REJECTING_EXECUTOR, overflow);
+            Stopwatch stopwatch = Stopwatch.createStarted();
+
+            List<ParallelTaskRunner.Outcome<Integer>> outcomes = saturated.mapEach(List.of(1, 2), item -> {
+                if (item == 2) {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                }
+                return item;
+            }, 2, Duration.ofMillis(200));
+
+            assertThat(stopwatch.elapsed(MILLISECONDS)).isLessThan(2000);
+            assertThat(outcomes.get(0).getValue()).isEqualTo(1);
+            assertThat(outcomes.get(1).getFailure()).isInstanceOf(TimeoutException.class);
+            assertThat(interrupted.await(1, SECONDS)).isTrue();
+        } finally {
+            overflow.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldEnforceSharedDeadlineOfTasksOverflowingSaturatedPool() {
+        ExecutorService overflow = Executors.newFixedThreadPool(1);
+        try {
+            ParallelTaskRunner saturated = new ParallelTaskRunner(REJECTING_EXECUTOR, overflow);
+            Stopwatch stopwatch = Stopwatch.createStarted();
+
+            List<ParallelTaskRunner.Outcome<Integer>> outcomes = saturated.mapEachBefore(List.of(1, 2, 3), item -> {
+                sleep(5000);
+                return item;
+            }, 3, Instant.now().plusMillis(300));
+
+            assertThat(stopwatch.elapsed(MILLISECONDS)).isLessThan(2000);
+            assertThat(outcomes).allMatch(outcome -> outcome.getFailure() instanceof TimeoutException);
+        } finally {
+            overflow.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailTaskWhenOverflowPoolIsSaturatedToo() {
+        ParallelTaskRunner saturated = new ParallelTaskRunner(REJECTING_EXECUTOR, REJECTING_EXECUTOR);
+
+        List<ParallelTaskRunner.Outcome<Integer>> outcomes = saturated.mapEach(List.of(1), item -> item, 1,
+            Duration.ofSeconds(1));
+
+        assertThat(outcomes.get(0).getFailure()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import uk.gov.hmcts.reform.fpl.service.docmosis.DocmosisCoverDocumentsService;
 import uk.gov.hmcts.reform.fpl.service.time.Time;
 import uk.gov.hmcts.reform.fpl.utils.DateFormatterHelper;
 import uk.gov.hmcts.reform.fpl.utils.FixedTimeConfiguration;
+import uk.gov.hmcts.reform.fpl.utils.InlineParallelTaskConfiguration;
 import uk.gov.hmcts.reform.sendletter.api.LetterWithPdfsRequest;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterApi;
 import uk.gov.hmcts.reform.sendletter.api.SendLetterResponse;
@@ -29,10 +30,12 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.fpl.model.common.DocumentReference.buildFromDocument;
@@ -43,7 +46,9 @@ import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocumentReference
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testRepresentative;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {FixedTimeConfiguration.class, SendLetterService.class})
+@ContextConfiguration(classes = {
+    FixedTimeConfiguration.class, InlineParallelTaskConfiguration.class, SendLetterService.class
+})
 class SendLetterServiceTest {
 
     private static final String SERVICE_AUTH_TOKEN = "Service token";
@@ -160,4 +165,42 @@ class SendLetterServiceTest {
             .letterId(LETTERS_IDS.get(1).toString())
             .build());
     }
+
+    @Test
+    void shouldReturnSentDocumentsOfRecipientsWhoseLettersHaveBeenPrepared() {
+        given(docmosisCoverDocumentsService.createCoverDocuments(FAMILY_CASE_NUMBER, CASE_ID, RECIPIENTS.get(1),
+            Language.ENGLISH))
+            .willThrow(new IllegalStateException("Docmosis unavailable"));
+
+        List<SentDocument> sentDocuments = underTest.send(MAIN_DOCUMENT_REFERENCE, RECIPIENTS, CASE_ID,
+            FAMILY_CASE_NUMBER, Language.ENGLISH);
+
+        assertThat(sentDocuments).extracting(SentDocument::getCoversheet)
+            .containsExactly(buildFromDocument(COVERSHEETS.get(0)));
+        verify(sendLetterApi).sendLetter(eq(SERVICE_AUTH_TOKEN), any(LetterWithPdfsRequest.class));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNoLetterHasBeenPrepared() {
+        given(uploadDocumentService.uploadPDF(any(), eq(COVERSHEET_NAME)))
+            .willThrow(new IllegalStateException("Upload failed"));
+
+        assertThatThrownBy(() -> underTest.send(MAIN_DOCUMENT_REFERENCE, RECIPIENTS, CASE_ID, FAMILY_CASE_NUMBER,
+            Language.ENGLISH))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Upload failed");
+
+        verify(sendLetterApi, never()).sendLetter(anyString(), any(LetterWithPdfsRequest.class));
+    }
+
+    @Test
+    void shouldRecordLetterWhenSendingItFailed() {
+        given(sendLetterApi.sendLetter(anyString(), any(LetterWithPdfsRequest.class)))
+            .willThrow(new IllegalStateException("Send letter unavailable"));
+
+        List<SentDocument> sentDocuments = underTest.send(MAIN_DOCUMENT_REFERENCE, RECIPIENTS, CASE_ID,
+            FAMILY_CASE_NUMBER, Language.ENGLISH);
+
+        assertThat(sentDocuments).extracting(SentDocument::getLetterId).containsExactly("", "");
+    }
 }
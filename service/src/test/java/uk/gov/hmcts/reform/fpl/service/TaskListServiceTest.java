@@ -73,7 +73,7 @@ class TaskListServiceTest {
         @ValueSource(booleans = {true, false})
         void shouldReturnTasksInProgress(boolean additionalContactsEnabled) {
             when(eventsChecker.isInProgress(any(Event.class), eq(caseData))).thenReturn(true);
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(false);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(false);
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(additionalContactsEnabled);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
@@ -81,13 +81,13 @@ class TaskListServiceTest {
 
             assertThat(actualTasks).containsExactlyInAnyOrderElementsOf(expectedTasks);
 
-            verify(eventsChecker, never()).isAvailable(any(), any());
+            verify(eventsChecker, never()).isAvailable(any(), any(), any());
         }
 
         @ParameterizedTest
         @ValueSource(booleans = {true, false})
         void shouldReturnCompletedTasks(boolean additionalContactsEnabled) {
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(true);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(true);
             when(eventsChecker.completedState(any(Event.class))).thenReturn(COMPLETED_TASK_STATE);
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(additionalContactsEnabled);
 
@@ -96,15 +96,15 @@ class TaskListServiceTest {
 
             assertThat(actualTasks).containsExactlyInAnyOrderElementsOf(expectedTasks);
 
-            verify(eventsChecker, never()).isAvailable(any(), any());
+            verify(eventsChecker, never()).isAvailable(any(), any(), any());
             verify(eventsChecker, never()).isInProgress(any(), any());
         }
 
         @ParameterizedTest
         @ValueSource(booleans = {true, false})
         void shouldReturnNotAvailableTasks(boolean additionalContactsEnabled) {
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(false);
-            when(eventsChecker.isAvailable(any(Event.class), eq(caseData))).thenReturn(false);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(false);
+            when(eventsChecker.isAvailable(any(Event.class), eq(caseData), any())).thenReturn(false);
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(additionalContactsEnabled);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
@@ -133,14 +133,14 @@ class TaskListServiceTest {
                 .build();
 
             when(eventsChecker.isInProgress(any(Event.class), eq(caseData))).thenReturn(true);
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(false);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(false);
 
             final List<Task> tasks = taskListService.getTasksForOpenCase(caseData);
             final List<Task> expectedTasks = getTasks(IN_PROGRESS, true, multiCourts, false);
 
             assertThat(tasks).containsExactlyInAnyOrderElementsOf(expectedTasks);
 
-            verify(eventsChecker, never()).isAvailable(any(), any());
+            verify(eventsChecker, never()).isAvailable(any(), any(), any());
         }
 
         @ParameterizedTest
@@ -152,7 +152,7 @@ class TaskListServiceTest {
                 .multiCourts(YesNo.from(multiCourts))
                 .build();
 
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(true);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(true);
             when(eventsChecker.completedState(any(Event.class))).thenReturn(COMPLETED_TASK_STATE);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
@@ -160,7 +160,7 @@ class TaskListServiceTest {
 
             assertThat(actualTasks).containsExactlyInAnyOrderElementsOf(expectedTasks);
 
-            verify(eventsChecker, never()).isAvailable(any(), any());
+            verify(eventsChecker, never()).isAvailable(any(), any(), any());
             verify(eventsChecker, never()).isInProgress(any(), any());
         }
 
@@ -173,8 +173,8 @@ class TaskListServiceTest {
                 .multiCourts(YesNo.from(multiCourts))
                 .build();
 
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(false);
-            when(eventsChecker.isAvailable(any(Event.class), eq(caseData))).thenReturn(false);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(false);
+            when(eventsChecker.isAvailable(any(Event.class), eq(caseData), any())).thenReturn(false);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
             final List<Task> expectedTasks = taskListService.getTasksForOpenCase(caseData);
@@ -200,21 +200,21 @@ class TaskListServiceTest {
 
             when(caseData.isDischargeOfCareApplication()).thenReturn(dischargeOfCare);
             when(eventsChecker.isInProgress(any(Event.class), eq(caseData))).thenReturn(true);
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(false);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(false);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
             final List<Task> expectedTask = getTasks(IN_PROGRESS, true, false, dischargeOfCare);
 
             assertThat(actualTasks).containsExactlyInAnyOrderElementsOf(expectedTask);
 
-            verify(eventsChecker, never()).isAvailable(any(), any());
+            verify(eventsChecker, never()).isAvailable(any(), any(), any());
         }
 
         @ParameterizedTest
         @ValueSource(booleans = {true, false})
         void shouldReturnCompletedTasks(boolean dischargeOfCare) {
             when(caseData.isDischargeOfCareApplication()).thenReturn(dischargeOfCare);
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(true);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(true);
             when(eventsChecker.completedState(any(Event.class))).thenReturn(COMPLETED_TASK_STATE);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
@@ -222,7 +222,7 @@ class TaskListServiceTest {
 
             assertThat(actualTasks).containsExactlyInAnyOrderElementsOf(expectedTasks);
 
-            verify(eventsChecker, never()).isAvailable(any(), any());
+            verify(eventsChecker, never()).isAvailable(any(), any(), any());
             verify(eventsChecker, never()).isInProgress(any(), any());
         }
 
@@ -231,8 +231,8 @@ class TaskListServiceTest {
         void shouldReturnNotAvailableTasks(boolean dischargeOfCare) {
             when(caseData.isDischargeOfCareApplication()).thenReturn(dischargeOfCare);
 
-            when(eventsChecker.isCompleted(any(Event.class), eq(caseData))).thenReturn(false);
-            when(eventsChecker.isAvailable(any(Event.class), eq(caseData))).thenReturn(false);
+            when(eventsChecker.isCompleted(any(Event.class), eq(caseData), any())).thenReturn(false);
+            when(eventsChecker.isAvailable(any(Event.class), eq(caseData), any())).thenReturn(false);
 
             final List<Task> actualTasks = taskListService.getTasksForOpenCase(caseData);
             final List<Task> expectedTasks = getTasks(NOT_AVAILABLE, true, false, dischargeOfCare);
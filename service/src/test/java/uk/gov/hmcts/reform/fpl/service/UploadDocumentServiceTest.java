@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.document.DocumentUploadClientApi;
@@ -17,6 +18,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.fpl.utils.DocumentManagementStoreLoader.successfulDocumentUploadResponse;
 import static uk.gov.hmcts.reform.fpl.utils.DocumentManagementStoreLoader.unsuccessfulDocumentUploadResponse;
 
@@ -33,6 +36,8 @@ class UploadDocumentServiceTest {
     private DocumentUploadClientApi documentUploadClient;
     @Mock
     private RequestData requestData;
+    @Spy
+    private UploadedDocumentIndex uploadedDocuments = new UploadedDocumentIndex(60, 100);
 
     @InjectMocks
     private UploadDocumentService uploadDocumentService;
@@ -74,4 +79,41 @@ class UploadDocumentServiceTest {
             .isInstanceOf(Exception.class)
             .hasMessage("Something bad happened");
     }
+
+    @Test
+    void shouldReuseDocumentUploadedWithSameContent() {
+        UploadResponse request = successfulDocumentUploadResponse();
+        given(documentUploadClient.upload(eq(AUTH_TOKEN), eq(SERVICE_AUTH_TOKEN), eq(USER_ID), any()))
+            .willReturn(request);
+
+        Document document = uploadDocumentService.uploadPDF(new byte[]{1, 2}, "file");
+        Document reusedDocument = uploadDocumentService.uploadPDF(new byte[]{1, 2}, "file");
+
+        Assertions.assertThat(reusedDocument).isSameAs(document);
+        verify(documentUploadClient).upload(eq(AUTH_TOKEN), eq(SERVICE_AUTH_TOKEN), eq(USER_ID), any());
+    }
+
+    @Test
+    void shouldUploadSameContentAgainWhenFileNameOrContentTypeDiffers() {
+        given(documentUploadClient.upload(eq(AUTH_TOKEN), eq(SERVICE_AUTH_TOKEN), eq(USER_ID), any()))
+            .willReturn(successfulDocumentUploadResponse());
+
+        uploadDocumentService.uploadPDF(new byte[]{1, 2}, "file");
+        uploadDocumentService.uploadPDF(new byte[]{1, 2}, "other file");
+        uploadDocumentService.uploadDocument(new byte[]{1, 2}, "file", "text/plain");
+
+        verify(documentUploadClient, times(3)).upload(eq(AUTH_TOKEN), eq(SERVICE_AUTH_TOKEN), eq(USER_ID), any());
+    }
+
+    @Test
+    void shouldNotRememberFailedUploads() {
+        given(documentUploadClient.upload(eq(AUTH_TOKEN), eq(SERVICE_AUTH_TOKEN), eq(USER_ID), any()))
+            .willReturn(unsuccessfulDocumentUploadResponse())
+            .willReturn(successfulDocumentUploadResponse());
+
+        assertThatThrownBy(() -> uploadDocumentService.uploadPDF(new byte[]{1, 2}, "file"))
+            .isInstanceOf(RuntimeException.class);
+
+        Assertions.assertThat(uploadDocumentService.uploadPDF(new byte[]{1, 2}, "file")).isNotNull();
+    }
 }
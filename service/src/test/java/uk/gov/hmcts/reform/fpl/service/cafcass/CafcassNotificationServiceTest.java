@@ -1,10 +1,10 @@
 package uk.gov.hmcts.reform.fpl.service.cafcass;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.fpl.config.cafcass.CafcassEmailConfiguration;
@@ -16,6 +16,8 @@ import uk.gov.hmcts.reform.fpl.model.cafcass.OrderCafcassData;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.model.email.EmailData;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
+import uk.gov.hmcts.reform.fpl.service.email.EmailAttachmentDownloader;
 import uk.gov.hmcts.reform.fpl.service.email.EmailService;
 
 import static java.util.Set.of;
@@ -48,12 +50,18 @@ class CafcassNotificationServiceTest {
     @Mock
     private CafcassEmailConfiguration configuration;
 
-    @InjectMocks
     private CafcassNotificationService underTest;
 
     @Captor
     private ArgumentCaptor<EmailData> emailData;
 
+    @BeforeEach
+    void setUp() {
+        underTest = new CafcassNotificationService(emailService,
+            new EmailAttachmentDownloader(documentDownloadService, new ParallelTaskRunner(Runnable::run), 20),
+            configuration);
+    }
+
     @Test
     void shouldNotifyOrderRequest() {
         when(configuration.getRecipientForOrder()).thenReturn(RECIPIENT_EMAIL);
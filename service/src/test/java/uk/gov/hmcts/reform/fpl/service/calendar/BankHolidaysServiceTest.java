@@ -1,22 +1,25 @@
 package uk.gov.hmcts.reform.fpl.service.calendar;
 
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.calendar.client.BankHolidaysApi;
 import uk.gov.hmcts.reform.calendar.model.BankHolidays;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.time.Month.DECEMBER;
 import static java.time.Month.FEBRUARY;
 import static java.time.Month.JANUARY;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,9 +34,20 @@ class BankHolidaysServiceTest {
     @Mock
     private BankHolidaysApi bankHolidaysApi;
 
-    @InjectMocks
+    private final AtomicLong nanos = new AtomicLong();
+
     private BankHolidaysService bankHolidaysService;
 
+    @BeforeEach
+    void init() {
+        bankHolidaysService = new BankHolidaysService(bankHolidaysApi, new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        });
+    }
+
     @Test
     void shouldFetchBankHolidays() {
         when(bankHolidaysApi.retrieveAll()).thenReturn(BANK_HOLIDAYS);
@@ -56,19 +70,72 @@ class BankHolidaysServiceTest {
     }
 
     @Test
-    void shouldNotCacheInvalidResposeFormBankHolidayApi() {
+    void shouldFallBackToBundledBankHolidaysWhenBankHolidayApiFails() {
+        when(bankHolidaysApi.retrieveAll()).thenThrow(new RuntimeException());
+
+        final Set<LocalDate> bankHolidays = bankHolidaysService.getBankHolidays();
+
+        assertThat(bankHolidays)
+            .hasSizeGreaterThan(50)
+            .contains(LocalDate.of(2020, JANUARY, 1), LocalDate.of(2020, DECEMBER, 28));
+    }
+
+    @Test
+    void shouldNotAskBankHolidayApiAgainUntilRetryPeriodAfterFailure() {
         when(bankHolidaysApi.retrieveAll())
             .thenThrow(new RuntimeException())
             .thenReturn(BANK_HOLIDAYS);
 
-        assertThrows(Exception.class, bankHolidaysService::getBankHolidays);
+        final Set<LocalDate> fallback = bankHolidaysService.getBankHolidays();
 
-        Set<LocalDate> bankHolidays = bankHolidaysService.getBankHolidays();
+        assertThat(fallback).isNotEqualTo(Set.of(BANK_HOLIDAY_1, BANK_HOLIDAY_2));
+
+        nanos.addAndGet(Duration.ofMinutes(4).toNanos());
+
+        assertThat(bankHolidaysService.getBankHolidays()).isEqualTo(fallback);
+        verify(bankHolidaysApi, times(1)).retrieveAll();
+
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(bankHolidaysService.getBankHolidays()).containsExactlyInAnyOrder(BANK_HOLIDAY_1, BANK_HOLIDAY_2);
+        verify(bankHolidaysApi, times(2)).retrieveAll();
+    }
+
+    @Test
+    void shouldRefetchBankHolidaysWhenCacheExpires() {
+        when(bankHolidaysApi.retrieveAll()).thenReturn(BANK_HOLIDAYS);
+
+        bankHolidaysService.getBankHolidays();
+        nanos.addAndGet(Duration.ofHours(12).toNanos());
+        bankHolidaysService.getBankHolidays();
 
-        assertThat(bankHolidays).containsExactlyInAnyOrder(BANK_HOLIDAY_1, BANK_HOLIDAY_2);
         verify(bankHolidaysApi, times(2)).retrieveAll();
     }
 
+    @Test
+    void shouldKeepFetchedBankHolidaysWhenBankHolidayApiFailsAfterCacheExpires() {
+        when(bankHolidaysApi.retrieveAll())
+            .thenReturn(BANK_HOLIDAYS)
+            .thenThrow(new RuntimeException());
+
+        bankHolidaysService.getBankHolidays();
+        nanos.addAndGet(Duration.ofHours(12).toNanos());
+
+        assertThat(bankHolidaysService.getBankHolidays()).containsExactlyInAnyOrder(BANK_HOLIDAY_1, BANK_HOLIDAY_2);
+        verify(bankHolidaysApi, times(2)).retrieveAll();
+    }
+
+    @Test
+    void shouldBuildWorkingDayIndexFromFetchedBankHolidays() {
+        when(bankHolidaysApi.retrieveAll()).thenReturn(BANK_HOLIDAYS);
+
+        final WorkingDayIndex workingDayIndex = bankHolidaysService.getWorkingDayIndex();
+
+        assertThat(workingDayIndex.isBankHoliday(BANK_HOLIDAY_1)).isTrue();
+        assertThat(workingDayIndex.addWorkingDays(LocalDate.of(2019, DECEMBER, 31), 1))
+            .isEqualTo(LocalDate.of(2020, JANUARY, 2));
+    }
+
     private static BankHolidays bankHolidaysOf(LocalDate... dateOfEvent) {
         return BankHolidays.builder().englandAndWales(
             BankHolidays.Division.builder()
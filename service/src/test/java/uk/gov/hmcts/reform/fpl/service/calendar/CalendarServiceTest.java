@@ -62,7 +62,7 @@ class CalendarServiceTest {
 
     @BeforeEach
     void init() {
-        when(bankHolidaysService.getBankHolidays()).thenReturn(BANK_HOLIDAYS);
+        when(bankHolidaysService.getWorkingDayIndex()).thenReturn(WorkingDayIndex.of(BANK_HOLIDAYS));
     }
 
     @Nested
@@ -182,5 +182,41 @@ class CalendarServiceTest {
             assertThrows(IllegalArgumentException.class, () ->
                 workingDayService.getWorkingDayFrom(now, 0));
         }
+
+        @Test
+        void shouldReturnWorkingDayOutsideOfBankHolidaysWindow() {
+            assertThat(workingDayService.getWorkingDayFrom(LocalDate.of(2030, JANUARY, 4), 1))
+                .isEqualTo(LocalDate.of(2030, JANUARY, 7));
+
+            assertThat(workingDayService.getWorkingDayFrom(LocalDate.of(2010, JANUARY, 4), -1))
+                .isEqualTo(LocalDate.of(2010, JANUARY, 1));
+        }
+    }
+
+    @Nested
+    class WorkingDaysBetweenDates {
+
+        @Test
+        void shouldReturnNumberOfWorkingDaysBetweenDates() {
+            assertThat(workingDayService.getWorkingDaysBetween(GOOD_FRIDAY.minusDays(1), GOOD_FRIDAY.plusDays(10)))
+                .isEqualTo(5);
+        }
+
+        @Test
+        void shouldReturnNegativeNumberOfWorkingDaysWhenDatesReversed() {
+            assertThat(workingDayService.getWorkingDaysBetween(EASTER_MONDAY.plusDays(2), LocalDate.of(2020, APRIL, 8)))
+                .isEqualTo(-3);
+        }
+
+        @Test
+        void shouldReturnZeroForSameDate() {
+            assertThat(workingDayService.getWorkingDaysBetween(GOOD_FRIDAY, GOOD_FRIDAY)).isZero();
+        }
+
+        @Test
+        void shouldReturnNumberOfWorkingDaysOutsideOfBankHolidaysWindow() {
+            assertThat(workingDayService.getWorkingDaysBetween(LocalDate.of(2030, JANUARY, 4),
+                LocalDate.of(2030, JANUARY, 11))).isEqualTo(5);
+        }
     }
 }
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.fpl.service.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static java.time.Month.APRIL;
+import static java.time.Month.DECEMBER;
+import static java.time.Month.JANUARY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkingDayIndexTest {
+
+    private static final Set<LocalDate> BANK_HOLIDAYS = Set.of(
+        LocalDate.of(2020, JANUARY, 1),
+        LocalDate.of(2020, APRIL, 10),
+        LocalDate.of(2020, APRIL, 13),
+        LocalDate.of(2020, DECEMBER, 25),
+        LocalDate.of(2020, DECEMBER, 28)
+    );
+
+    private final WorkingDayIndex underTest = WorkingDayIndex.of(BANK_HOLIDAYS);
+
+    @Test
+    void shouldMatchDayByDayWalkForEveryDateInWindow() {
+        for (LocalDate date = LocalDate.of(2019, JANUARY, 1); date.getYear() < 2022; date = date.plusDays(1)) {
+            for (int days : new int[] {-20, -3, -1, 1, 2, 15}) {
+                assertThat(underTest.addWorkingDays(date, days))
+                    .as("%s %+d working days", date, days)
+                    .isEqualTo(walk(date, days));
+            }
+        }
+    }
+
+    @Test
+    void shouldCountWorkingDaysBetweenDatesConsistentlyWithAddition() {
+        LocalDate from = LocalDate.of(2020, DECEMBER, 20);
+
+        for (int days = -30; days <= 30; days++) {
+            if (days != 0) {
+                assertThat(underTest.workingDaysBetween(from, underTest.addWorkingDays(from, days))).isEqualTo(days);
+            }
+        }
+    }
+
+    @Test
+    void shouldCountWorkingDaysAcrossWindowBoundary() {
+        LocalDate from = LocalDate.of(2021, DECEMBER, 30);
+        LocalDate to = LocalDate.of(2022, JANUARY, 5);
+
+        assertThat(underTest.workingDaysBetween(from, to)).isEqualTo(4);
+        assertThat(underTest.workingDaysBetween(to, from)).isEqualTo(-4);
+    }
+
+    @Test
+    void shouldReturnSameDateWhenAddingNoWorkingDays() {
+        LocalDate date = LocalDate.of(2020, APRIL, 10);
+
+        assertThat(underTest.addWorkingDays(date, 0)).isEqualTo(date);
+    }
+
+    private static LocalDate walk(LocalDate date, int days) {
+        LocalDate candidate = date;
+        int remaining = Math.abs(days);
+
+        while (remaining > 0) {
+            candidate = candidate.plusDays(Integer.signum(days));
+            if (candidate.getDayOfWeek() != DayOfWeek.SATURDAY && candidate.getDayOfWeek() != DayOfWeek.SUNDAY
+                && !BANK_HOLIDAYS.contains(candidate)) {
+                remaining--;
+            }
+        }
+
+        return candidate;
+    }
+}
@@ -25,6 +25,7 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.fpl.enums.DocmosisTemplates.C110A;
 import static uk.gov.hmcts.reform.fpl.service.casesubmission.SampleCaseSubmissionTestDataHelper.expectedDocmosisCaseSubmission;
@@ -102,6 +103,29 @@ class CaseSubmissionServiceTest {
         verify(uploadDocumentService).uploadPDF(eq(PDF), any());
     }
 
+    @Test
+    void shouldReuseRenderedDraftWhenTemplateDataUnchanged() {
+        expectedCaseSubmission.setCaseNumber("rendered before");
+
+        caseSubmissionService.generateSubmittedFormPDF(givenCaseData, true);
+        caseSubmissionService.generateSubmittedFormPDF(givenCaseData, true);
+
+        verify(documentGeneratorService).generateDocmosisDocument(any(DocmosisData.class), any(), any(), any());
+        verify(uploadDocumentService, times(2)).uploadPDF(eq(PDF), any());
+    }
+
+    @Test
+    void shouldRenderAgainWhenTemplateDataChanged() {
+        expectedCaseSubmission.setCaseNumber("rendered before then changed");
+        caseSubmissionService.generateSubmittedFormPDF(givenCaseData, true);
+
+        expectedCaseSubmission.setCaseNumber("changed");
+        caseSubmissionService.generateSubmittedFormPDF(givenCaseData, true);
+
+        verify(documentGeneratorService, times(2))
+            .generateDocmosisDocument(any(DocmosisData.class), any(), any(), any());
+    }
+
     @Test
     void shouldGetSigneeName() {
         final CaseData caseData = CaseData.builder().build();
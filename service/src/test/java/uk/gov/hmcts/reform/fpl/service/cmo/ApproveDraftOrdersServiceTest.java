@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.fpl.service.cmo;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Maps;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,7 @@ import uk.gov.hmcts.reform.fpl.enums.HearingOrderType;
 import uk.gov.hmcts.reform.fpl.enums.HearingType;
 import uk.gov.hmcts.reform.fpl.enums.State;
 import uk.gov.hmcts.reform.fpl.exceptions.CMONotFoundException;
+import uk.gov.hmcts.reform.fpl.exceptions.OrdersSealingTimeoutException;
 import uk.gov.hmcts.reform.fpl.model.Address;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.HearingBooking;
@@ -33,28 +35,39 @@ import uk.gov.hmcts.reform.fpl.model.order.HearingOrder;
 import uk.gov.hmcts.reform.fpl.model.order.HearingOrdersBundle;
 import uk.gov.hmcts.reform.fpl.model.order.generated.GeneratedOrder;
 import uk.gov.hmcts.reform.fpl.service.OthersService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
 import uk.gov.hmcts.reform.fpl.service.time.Time;
 import uk.gov.hmcts.reform.fpl.utils.ElementUtils;
 import uk.gov.hmcts.reform.fpl.utils.FixedTimeConfiguration;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -118,6 +131,8 @@ class ApproveDraftOrdersServiceTest {
     @Mock
     private OthersService othersService;
 
+    private final ParallelTaskRunner parallelTaskRunner = spy(new ParallelTaskRunner(Runnable::run));
+
     @InjectMocks
     private ApproveDraftOrdersService underTest;
 
@@ -131,7 +146,8 @@ class ApproveDraftOrdersServiceTest {
             draftOrdersBundleHearingSelector,
             blankOrderGenerator,
             hearingOrderGenerator,
-            othersService
+            othersService,
+            parallelTaskRunner
         );
     }
 
@@ -531,6 +547,92 @@ class ApproveDraftOrdersServiceTest {
         assertThat(data).containsAllEntriesOf(expectedData);
     }
 
+    @Test
+    void shouldThrowExceptionWhenApprovedOrdersNotSealedBeforeDeadline() {
+        Element<HearingOrder> draftOrder1 = buildBlankOrder("test order1", hearing1);
+        Element<HearingOrder> draftOrder2 = buildBlankOrder("test order2", hearing1);
+
+        Element<HearingOrdersBundle> ordersBundleElement =
+            buildDraftOrdersBundle(hearing1, newArrayList(draftOrder1, draftOrder2));
+
+        ReviewDecision reviewDecision = ReviewDecision.builder().decision(SEND_TO_ALL_PARTIES).build();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("reviewDecision1", Map.of("decision", SEND_TO_ALL_PARTIES));
+        data.put("reviewDecision2", Map.of("decision", SEND_TO_ALL_PARTIES));
+
+        CaseData caseData = CaseData.builder()
+            .id(1L)
+            .state(State.CASE_MANAGEMENT)
+            .hearingOrdersBundlesDrafts(newArrayList(ordersBundleElement))
+            .orderCollection(newArrayList())
+            .build();
+
+        given(mapper.convertValue(anyMap(), eq(ReviewDecision.class))).willReturn(reviewDecision);
+        doAnswer(invocation -> new ParallelTaskRunner(Runnable::run).mapEachBefore(invocation.getArgument(0),
+            invocation.getArgument(1), 1, Instant.now().minusSeconds(1)))
+            .when(parallelTaskRunner).mapEachBefore(any(), any(), anyInt(), any());
+
+        assertThrows(OrdersSealingTimeoutException.class,
+            () -> underTest.reviewC21Orders(caseData, data, ordersBundleElement));
+
+        verifyNoInteractions(hearingOrderGenerator, blankOrderGenerator);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenApprovedOrdersNotSealedBeforeDeadlineOnSaturatedPool() throws Exception {
+        Element<HearingOrder> draftOrder1 = buildBlankOrder("test order1", hearing1);
+
+        Element<HearingOrdersBundle> ordersBundleElement =
+            buildDraftOrdersBundle(hearing1, newArrayList(draftOrder1));
+
+        ReviewDecision reviewDecision = ReviewDecision.builder().decision(SEND_TO_ALL_PARTIES).build();
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("reviewDecision1", Map.of("decision", SEND_TO_ALL_PARTIES));
+
+        CaseData caseData = CaseData.builder()
+            .id(1L)
+            .state(State.CASE_MANAGEMENT)
+            .hearingOrdersBundlesDrafts(newArrayList(ordersBundleElement))
+            .orderCollection(newArrayList())
+            .build();
+
+        Executor saturatedPool = task -> {
+            throw new RejectedExecutionException("Pool saturated");
+        };
+        ExecutorService overflowPool = Executors.newSingleThreadExecutor();
+        CountDownLatch sealInterrupted = new CountDownLatch(1);
+
+        try {
+            ParallelTaskRunner saturated = new ParallelTaskRunner(saturatedPool, overflowPool);
+
+            given(mapper.convertValue(anyMap(), eq(ReviewDecision.class))).willReturn(reviewDecision);
+            given(hearingOrderGenerator.buildSealedHearingOrder(any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        sealInterrupted.countDown();
+                    }
+                    return null;
+                });
+            doAnswer(invocation -> saturated.mapEachBefore(invocation.getArgument(0), invocation.getArgument(1),
+                invocation.getArgument(2), Instant.now().plusMillis(200)))
+                .when(parallelTaskRunner).mapEachBefore(any(), any(), anyInt(), any());
+
+            Stopwatch stopwatch = Stopwatch.createStarted();
+
+            assertThrows(OrdersSealingTimeoutException.class,
+                () -> underTest.reviewC21Orders(caseData, data, ordersBundleElement));
+
+            assertThat(stopwatch.elapsed(SECONDS)).isLessThan(5);
+            assertThat(sealInterrupted.await(5, SECONDS)).isTrue();
+        } finally {
+            overflowPool.shutdownNow();
+        }
+    }
+
     @Test
     void shouldNotCreateBlankOrderWhenJudgeRequestsChanges() {
         Element<HearingOrder> draftOrder1 = buildBlankOrder("test order1", hearing1);
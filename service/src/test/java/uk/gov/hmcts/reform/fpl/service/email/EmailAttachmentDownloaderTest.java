@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.model.email.EmailAttachment;
+import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.model.email.EmailAttachment.document;
+
+@ExtendWith(MockitoExtension.class)
+class EmailAttachmentDownloaderTest {
+
+    private static final byte[] CONTENT = "DocumentContent".getBytes();
+    private static final DocumentReference FIRST_DOCUMENT = DocumentReference.builder()
+        .binaryUrl("firstBinaryUrl")
+        .filename("first.pdf")
+        .build();
+    private static final DocumentReference SECOND_DOCUMENT = DocumentReference.builder()
+        .binaryUrl("secondBinaryUrl")
+        .filename("second.txt")
+        .build();
+
+    @Mock
+    private DocumentDownloadService documentDownloadService;
+
+    @Test
+    void shouldKeepAttachmentsInMemoryWithinBudget() {
+        when(documentDownloadService.downloadDocument("firstBinaryUrl")).thenReturn(CONTENT);
+        when(documentDownloadService.downloadDocument("secondBinaryUrl")).thenReturn(CONTENT);
+
+        try (DownloadedAttachments attachments = downloader(20).download(List.of(FIRST_DOCUMENT, SECOND_DOCUMENT))) {
+            assertThat(attachments.getAttachments()).containsExactly(
+                document("application/pdf", CONTENT, "first.pdf"),
+                document("text/plain", CONTENT, "second.txt"));
+        }
+    }
+
+    @Test
+    void shouldWriteAttachmentsOverBudgetToTemporaryFilesDeletedOnClose() throws Exception {
+        when(documentDownloadService.downloadDocument("firstBinaryUrl")).thenReturn(CONTENT);
+
+        DownloadedAttachments attachments = downloader(0).download(List.of(FIRST_DOCUMENT));
+
+        EmailAttachment attachment = attachments.getAttachments().iterator().next();
+        assertThat(attachment.getData()).isInstanceOf(FileSystemResource.class);
+        assertThat(attachment.getFilename()).isEqualTo("first.pdf");
+
+        File file = ((FileSystemResource) attachment.getData()).getFile();
+        assertThat(Files.readAllBytes(file.toPath())).isEqualTo(CONTENT);
+
+        attachments.close();
+
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void shouldRethrowDownloadFailure() {
+        when(documentDownloadService.downloadDocument("firstBinaryUrl")).thenReturn(CONTENT);
+        when(documentDownloadService.downloadDocument("secondBinaryUrl"))
+            .thenThrow(new IllegalArgumentException("Document not found"));
+
+        EmailAttachmentDownloader downloader = downloader(0);
+        List<DocumentReference> documents = List.of(FIRST_DOCUMENT, SECOND_DOCUMENT);
+
+        assertThatThrownBy(() -> downloader.download(documents))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Document not found");
+    }
+
+    private EmailAttachmentDownloader downloader(long maxInMemoryMegabytes) {
+        return new EmailAttachmentDownloader(documentDownloadService, new ParallelTaskRunner(Runnable::run),
+            maxInMemoryMegabytes);
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.fpl.service.email;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryNotificationDeduplicatorTest {
+
+    private final InMemoryNotificationDeduplicator underTest = new InMemoryNotificationDeduplicator(10, 100);
+
+    @Test
+    void shouldClaimNotificationOnlyOnceWithinWindow() {
+        assertThat(underTest.claim("key")).isTrue();
+        assertThat(underTest.claim("key")).isFalse();
+        assertThat(underTest.claim("otherKey")).isTrue();
+    }
+
+    @Test
+    void shouldClaimNotificationAgainOnceReleased() {
+        underTest.claim("key");
+        underTest.release("key");
+
+        assertThat(underTest.claim("key")).isTrue();
+    }
+
+    @Test
+    void shouldNotDeduplicateWhenWindowIsZero() {
+        InMemoryNotificationDeduplicator deduplicator = new InMemoryNotificationDeduplicator(0, 100);
+
+        assertThat(deduplicator.claim("key")).isTrue();
+        assertThat(deduplicator.claim("key")).isTrue();
+    }
+}
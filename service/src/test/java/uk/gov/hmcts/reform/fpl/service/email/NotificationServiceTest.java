@@ -1,7 +1,11 @@
 package uk.gov.hmcts.reform.fpl.service.email;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -10,18 +14,30 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.fpl.model.notify.BaseCaseNotifyData;
 import uk.gov.hmcts.reform.fpl.model.notify.NotifyData;
+import uk.gov.hmcts.reform.fpl.utils.InlineParallelTaskConfiguration;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.fpl.service.email.NotificationServiceTest.ENV;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {NotificationService.class, JacksonAutoConfiguration.class})
-@TestPropertySource(properties = {"fpl.env=" + ENV})
+@ContextConfiguration(classes = {
+    NotificationService.class, JacksonAutoConfiguration.class, InlineParallelTaskConfiguration.class,
+    SimpleMeterRegistry.class
+})
+@TestPropertySource(properties = {"fpl.env=" + ENV, "notify.rateLimited.backoffMillis=1"})
 class NotificationServiceTest {
 
     static final String ENV = "TEST_ENV";
@@ -34,9 +50,15 @@ class NotificationServiceTest {
     @MockBean
     private NotificationClient notificationClient;
 
+    @MockBean
+    private NotificationDeduplicator deduplicator;
+
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final NotifyData EMAIL_PERSONALISATION = BaseCaseNotifyData.builder()
         .lastName("Smith")
         .caseUrl("http://fake-url")
@@ -46,6 +68,12 @@ class NotificationServiceTest {
         "respondentLastName", "Smith",
         "caseUrl", "http://fake-url");
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry.clear();
+        when(deduplicator.claim(any())).thenReturn(true);
+    }
+
     @Test
     void shouldSendEmailToSingleRecipient() throws NotificationClientException {
         notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
@@ -78,4 +106,127 @@ class NotificationServiceTest {
         );
     }
 
+    @Test
+    void shouldSendEmailsToRemainingRecipientsWhenOneFails() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(new NotificationClientException("Rate limit exceeded"));
+
+        notificationService.sendEmail(TEMPLATE_ID,
+            List.of(TEST_RECIPIENT_EMAIL_1, TEST_RECIPIENT_EMAIL_2, TEST_RECIPIENT_EMAIL_2),
+            EMAIL_PERSONALISATION, REFERENCE);
+
+        verify(notificationClient).sendEmail(
+            TEMPLATE_ID,
+            TEST_RECIPIENT_EMAIL_2,
+            EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE
+        );
+    }
+
+    @Test
+    void shouldNotSendDuplicateEmail() {
+        when(deduplicator.claim(any())).thenReturn(false);
+
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+
+        verifyNoInteractions(notificationClient);
+    }
+
+    @Test
+    void shouldReleaseDeduplicationClaimWhenEmailFails() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(new NotificationClientException("Service unavailable"));
+
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(deduplicator).claim(key.capture());
+        verify(deduplicator).release(key.getValue());
+    }
+
+    @Test
+    void shouldReleaseDeduplicationClaimWhenEmailFailsUnexpectedly() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(new IllegalStateException("Connection reset"));
+
+        assertThatThrownBy(() -> notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1,
+            EMAIL_PERSONALISATION, REFERENCE))
+            .isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(deduplicator).claim(key.capture());
+        verify(deduplicator).release(key.getValue());
+    }
+
+    @Test
+    void shouldUseSameDeduplicationKeyForSameEmail() {
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_2, EMAIL_PERSONALISATION, REFERENCE);
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(deduplicator, times(3)).claim(keys.capture());
+        assertThat(keys.getAllValues().get(0)).isEqualTo(keys.getAllValues().get(1))
+            .isNotEqualTo(keys.getAllValues().get(2));
+    }
+
+    @Test
+    void shouldRecordSendingTimeOfEachTemplate() {
+        notificationService.sendEmail(TEMPLATE_ID, Set.of(TEST_RECIPIENT_EMAIL_1, TEST_RECIPIENT_EMAIL_2),
+            EMAIL_PERSONALISATION, REFERENCE);
+
+        assertThat(meterRegistry.get("notify.emails").tag("templateId", TEMPLATE_ID).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.find("notify.emails.failed").counter()).isNull();
+    }
+
+    @Test
+    void shouldCountFailedEmailsOfEachTemplate() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(new NotificationClientException("Service unavailable"));
+
+        notificationService.sendEmail(TEMPLATE_ID, List.of(TEST_RECIPIENT_EMAIL_1, TEST_RECIPIENT_EMAIL_2),
+            EMAIL_PERSONALISATION, REFERENCE);
+
+        assertThat(meterRegistry.get("notify.emails.failed").tag("templateId", TEMPLATE_ID).counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryEmailRejectedForGoingOverRateLimit() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE))
+            .thenThrow(new NotificationClientException(429, "Rate limit exceeded"))
+            .thenThrow(new NotificationClientException(429, "Rate limit exceeded"))
+            .thenReturn(null);
+
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+
+        verify(notificationClient, times(3)).sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1,
+            EXPECTED_EMAIL_PERSONALISATION, NOTIFICATION_REFERENCE);
+        verify(deduplicator, never()).release(any());
+        assertThat(meterRegistry.get("notify.emails.rate.limited").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGiveUpOnEmailStillRejectedForGoingOverRateLimitAfterRetries() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(new NotificationClientException(429, "Rate limit exceeded"));
+
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+
+        verify(notificationClient, times(4)).sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1,
+            EXPECTED_EMAIL_PERSONALISATION, NOTIFICATION_REFERENCE);
+        verify(deduplicator).release(any());
+    }
+
+    @Test
+    void shouldNotRetryEmailRejectedForOtherReasons() throws NotificationClientException {
+        when(notificationClient.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE)).thenThrow(new NotificationClientException(400, "Bad request"));
+
+        notificationService.sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EMAIL_PERSONALISATION, REFERENCE);
+
+        verify(notificationClient).sendEmail(TEMPLATE_ID, TEST_RECIPIENT_EMAIL_1, EXPECTED_EMAIL_PERSONALISATION,
+            NOTIFICATION_REFERENCE);
+    }
 }
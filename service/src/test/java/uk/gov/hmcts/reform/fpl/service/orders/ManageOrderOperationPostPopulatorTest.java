@@ -2,11 +2,9 @@ package uk.gov.hmcts.reform.fpl.service.orders;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.event.ManageOrdersEventData;
 import uk.gov.hmcts.reform.fpl.model.order.OrderOperation;
-import uk.gov.hmcts.reform.fpl.service.CaseConverter;
 import uk.gov.hmcts.reform.fpl.service.orders.prepopulator.OrderSectionAndQuestionsPrePopulator;
 import uk.gov.hmcts.reform.fpl.service.orders.prepopulator.preselector.ManageOrderInitialTypePreSelector;
 
@@ -21,22 +19,19 @@ import static uk.gov.hmcts.reform.fpl.model.order.OrderOperation.AMEND;
 import static uk.gov.hmcts.reform.fpl.model.order.OrderSection.AMEND_DOWNLOAD;
 
 class ManageOrderOperationPostPopulatorTest {
-    private final CaseDetails caseDetails = mock(CaseDetails.class);
     private final CaseData caseData = mock(CaseData.class);
     private final ManageOrdersEventData eventData = mock(ManageOrdersEventData.class);
 
-    private final CaseConverter converter = mock(CaseConverter.class);
     private final ManageOrderInitialTypePreSelector preSelector = mock(ManageOrderInitialTypePreSelector.class);
     private final OrderShowHideQuestionsCalculator calculator = mock(OrderShowHideQuestionsCalculator.class);
     private final OrderSectionAndQuestionsPrePopulator prePopulator = mock(OrderSectionAndQuestionsPrePopulator.class);
 
     private final ManageOrderOperationPostPopulator underTest = new ManageOrderOperationPostPopulator(
-        converter, preSelector, calculator, prePopulator
+        preSelector, calculator, prePopulator
     );
 
     @BeforeEach
     void setUp() {
-        when(converter.convert(caseDetails)).thenReturn(caseData);
         when(caseData.getManageOrdersEventData()).thenReturn(eventData);
     }
 
@@ -52,7 +47,7 @@ class ManageOrderOperationPostPopulatorTest {
         Map<String, Object> expectedMap = new HashMap<>(Map.of("orderTempQuestions", showHideFields));
         expectedMap.putAll(prePopulatedFields);
 
-        assertThat(underTest.populate(caseDetails)).isEqualTo(expectedMap);
+        assertThat(underTest.populate(caseData)).isEqualTo(expectedMap);
     }
 
     @Test
@@ -68,7 +63,7 @@ class ManageOrderOperationPostPopulatorTest {
         Map<String, Object> expectedMap = new HashMap<>(Map.of("orderTempQuestions", showHideFields));
         expectedMap.putAll(prePopulatedFields);
 
-        assertThat(underTest.populate(caseDetails)).isEqualTo(expectedMap);
+        assertThat(underTest.populate(caseData)).isEqualTo(expectedMap);
     }
 
     @Test
@@ -76,8 +71,8 @@ class ManageOrderOperationPostPopulatorTest {
         Map<String, Object> preSelectedFields = Map.of("pre-selected", "fields");
 
         when(eventData.getManageOrdersOperation()).thenReturn(OrderOperation.CREATE);
-        when(preSelector.preSelect(caseDetails)).thenReturn(preSelectedFields);
+        when(preSelector.preSelect(caseData)).thenReturn(preSelectedFields);
 
-        assertThat(underTest.populate(caseDetails)).isEqualTo(preSelectedFields);
+        assertThat(underTest.populate(caseData)).isEqualTo(preSelectedFields);
     }
 }
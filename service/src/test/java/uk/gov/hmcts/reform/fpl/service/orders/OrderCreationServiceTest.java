@@ -16,8 +16,16 @@ import uk.gov.hmcts.reform.fpl.service.UploadDocumentService;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.OrderDocumentGenerator;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.OrderDocumentGeneratorResult;
 import uk.gov.hmcts.reform.fpl.service.orders.generator.UploadedOrderDocumentGenerator;
+import uk.gov.hmcts.reform.fpl.service.orders.preview.DraftOrderPreviewStore;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -32,6 +40,11 @@ class OrderCreationServiceTest {
     private static final String FILE_NAME = "mock_order.mock_format";
     private static final String DRAFT_FILE_NAME = "Preview order.pdf";
     private static final String MEDIA_TYPE = "mock/media_type";
+    private static final DocumentReference PREVIEW = DocumentReference.builder()
+        .url("http://localhost/order-previews/token")
+        .binaryUrl("http://localhost/order-previews/token")
+        .filename(DRAFT_FILE_NAME)
+        .build();
 
     private final Order order = mock(Order.class);
     private final RenderFormat format = mock(RenderFormat.class);
@@ -39,9 +52,10 @@ class OrderCreationServiceTest {
     private final OrderDocumentGenerator documentGenerator = mock(OrderDocumentGenerator.class);
     private final UploadedOrderDocumentGenerator uploadedOrderDocumentGenerator =
         mock(UploadedOrderDocumentGenerator.class);
+    private final DraftOrderPreviewStore previewStore = mock(DraftOrderPreviewStore.class);
 
     private final OrderCreationService underTest = new OrderCreationService(
-        documentGenerator, uploadedOrderDocumentGenerator, uploadService
+        documentGenerator, uploadedOrderDocumentGenerator, uploadService, previewStore
     );
     private final ManageOrdersEventData manageOrdersEventData = ManageOrdersEventData.builder()
         .manageOrdersType(order)
@@ -87,4 +101,33 @@ class OrderCreationServiceTest {
         verifyNoInteractions(documentGenerator);
     }
 
+    @Test
+    void createDraftOrderPreviewWithoutUploadWhenLocalStoreEnabled() {
+        Map<String, Object> templateData = Map.of("orderTitle", "title");
+
+        when(previewStore.isEnabled()).thenReturn(true);
+        when(order.getSourceType()).thenReturn(OrderSourceType.DIGITAL);
+        when(documentGenerator.generateTemplateData(order, caseData, OrderStatus.DRAFT)).thenReturn(templateData);
+        when(documentGenerator.generate(order, templateData, format)).thenReturn(DOCMOSIS_DOCUMENT);
+        when(previewStore.getOrGenerate(isNull(), eq(Arrays.asList(order, format, templateData)),
+            eq(DRAFT_FILE_NAME), any())).thenAnswer(invocation -> {
+                Supplier<OrderDocumentGeneratorResult> generator = invocation.getArgument(3);
+                assertThat(generator.get().getBytes()).isEqualTo(BYTES);
+                return PREVIEW;
+            });
+
+        assertThat(underTest.createOrderDocument(caseData, OrderStatus.DRAFT, format)).isEqualTo(PREVIEW);
+        verifyNoInteractions(uploadService);
+    }
+
+    @Test
+    void createDraftOrderPreviewForUploadedDocumentWhenLocalStoreEnabled() {
+        when(previewStore.isEnabled()).thenReturn(true);
+        when(order.getSourceType()).thenReturn(OrderSourceType.MANUAL_UPLOAD);
+        when(previewStore.getOrGenerate(isNull(), eq(Arrays.asList(order, format, null)), eq(DRAFT_FILE_NAME),
+            any())).thenReturn(PREVIEW);
+
+        assertThat(underTest.createOrderDocument(caseData, OrderStatus.DRAFT, format)).isEqualTo(PREVIEW);
+        verifyNoInteractions(uploadService, documentGenerator);
+    }
 }
@@ -1,13 +1,14 @@
 package uk.gov.hmcts.reform.fpl.service.orders.generator;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.fpl.model.common.DocmosisDocument;
 import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
 import uk.gov.hmcts.reform.fpl.service.DocumentDownloadService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 
 import java.util.List;
@@ -16,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.fpl.utils.ResourceReader.readBytes;
 import static uk.gov.hmcts.reform.fpl.utils.TestDataHelper.testDocumentReference;
@@ -28,7 +30,6 @@ class DocumentMergerTest {
     @Mock
     private DocumentDownloadService documentDownloadService;
 
-    @InjectMocks
     private DocumentMerger underTest;
 
     private static final String ORIGINAL_FILENAME = "document1.pdf";
@@ -39,6 +40,12 @@ class DocumentMergerTest {
 
     private static final DocumentReference DOCUMENT_REFERENCE = testDocumentReference(ADDITIONAL_FILENAME);
 
+    @BeforeEach
+    void setUp() {
+        underTest = new DocumentMerger(documentDownloadService, documentConversionService,
+            new ParallelTaskRunner(Runnable::run), 1);
+    }
+
     @Test
     void shouldMergeTheDocuments() {
         final byte[] originalDocument = readBytes("documents/document1.pdf");
@@ -66,6 +73,30 @@ class DocumentMergerTest {
         assertThat(actualMergedPdf.getBytes()).isNotEmpty();
     }
 
+    @Test
+    void shouldFetchAndMergeAllAdditionalDocuments() {
+        final byte[] originalDocument = readBytes("documents/document1.pdf");
+        final byte[] additionalDocument = readBytes("documents/document2.pdf");
+        final byte[] additionalDocumentBytes = new byte[]{1, 2};
+        final DocumentReference otherDocumentReference = testDocumentReference("document3.pdf");
+
+        when(documentConversionService.convertToPdf(eq(DOCMOSIS_DOCUMENT.getBytes()), anyString()))
+            .thenReturn(originalDocument);
+        when(documentDownloadService.downloadDocument(eq(DOCUMENT_REFERENCE.getBinaryUrl())))
+            .thenReturn(additionalDocumentBytes);
+        when(documentDownloadService.downloadDocument(eq(otherDocumentReference.getBinaryUrl())))
+            .thenReturn(additionalDocumentBytes);
+        when(documentConversionService.convertToPdf(eq(additionalDocumentBytes), anyString()))
+            .thenReturn(additionalDocument);
+
+        DocmosisDocument actualMergedPdf = underTest.mergeDocuments(DOCMOSIS_DOCUMENT,
+            List.of(DOCUMENT_REFERENCE, otherDocumentReference));
+
+        assertThat(actualMergedPdf.getBytes()).isNotEmpty();
+        verify(documentConversionService).convertToPdf(additionalDocumentBytes, ADDITIONAL_FILENAME);
+        verify(documentConversionService).convertToPdf(additionalDocumentBytes, "document3.pdf");
+    }
+
     @Test
     void shouldReturnOriginalDocumentWhenAdditionalDocumentsAreEmpty() {
         DocmosisDocument actualMergedPdf = underTest.mergeDocuments(DOCMOSIS_DOCUMENT, List.of());
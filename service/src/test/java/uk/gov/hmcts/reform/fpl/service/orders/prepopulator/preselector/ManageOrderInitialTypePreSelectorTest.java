@@ -1,8 +1,9 @@
 package uk.gov.hmcts.reform.fpl.service.orders.prepopulator.preselector;
 
 import org.junit.jupiter.api.Test;
-import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.event.ManageOrdersEventData;
+import uk.gov.hmcts.reform.fpl.model.order.OrderTempQuestions;
 import uk.gov.hmcts.reform.fpl.service.CaseConverter;
 import uk.gov.hmcts.reform.fpl.service.orders.OrderShowHideQuestionsCalculator;
 import uk.gov.hmcts.reform.fpl.service.orders.prepopulator.OrderSectionAndQuestionsPrePopulator;
@@ -15,12 +16,11 @@ import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.fpl.enums.State.CLOSED;
 import static uk.gov.hmcts.reform.fpl.model.order.Order.C21_BLANK_ORDER;
 import static uk.gov.hmcts.reform.fpl.model.order.OrderSection.ISSUING_DETAILS;
-import static uk.gov.hmcts.reform.fpl.utils.CoreCaseDataStoreLoader.emptyCaseDetails;
 
 class ManageOrderInitialTypePreSelectorTest {
 
     private static final Map<String, String> SHOW_HIDE = Map.of("showHide", "value");
-    private static final CaseData MODIFIED_CASE_DATA = mock(CaseData.class);
+    private static final OrderTempQuestions ORDER_TEMP_QUESTIONS = OrderTempQuestions.builder().build();
 
     private final OrderShowHideQuestionsCalculator showHideQuestionsCalculator =
         mock(OrderShowHideQuestionsCalculator.class);
@@ -35,34 +35,34 @@ class ManageOrderInitialTypePreSelectorTest {
 
     @Test
     void testWhenNotClosedState() {
-        final CaseDetails caseDetails = emptyCaseDetails();
-        when(caseConverter.convert(caseDetails)).thenReturn(CaseData.builder().build());
-
-        Map<String, Object> actual = underTest.preSelect(caseDetails);
+        Map<String, Object> actual = underTest.preSelect(CaseData.builder().build());
 
         assertThat(actual).isEqualTo(Map.of());
     }
 
     @Test
     void testWhenClosedState() {
-        final CaseDetails caseDetails = emptyCaseDetails();
-        when(caseConverter.convert(caseDetails)).thenReturn(CaseData.builder().state(CLOSED).build());
+        final CaseData caseData = CaseData.builder().state(CLOSED).build();
+        final CaseData caseDataWithDefaults = caseData.toBuilder()
+            .manageOrdersEventData(ManageOrdersEventData.builder()
+                .manageOrdersState(CLOSED)
+                .manageOrdersType(C21_BLANK_ORDER)
+                .orderTempQuestions(ORDER_TEMP_QUESTIONS)
+                .build())
+            .build();
+
         when(showHideQuestionsCalculator.calculate(C21_BLANK_ORDER)).thenReturn(SHOW_HIDE);
-        when(caseConverter.convert(CaseDetails.builder().data(
-            Map.of("manageOrdersState", CLOSED,
-                "manageOrdersType", C21_BLANK_ORDER,
-                "orderTempQuestions", SHOW_HIDE
-            )
-        ).build())).thenReturn(MODIFIED_CASE_DATA);
-        when(orderSectionAndQuestionsPrePopulator.prePopulate(C21_BLANK_ORDER, ISSUING_DETAILS, MODIFIED_CASE_DATA))
+        when(caseConverter.convert(SHOW_HIDE, OrderTempQuestions.class)).thenReturn(ORDER_TEMP_QUESTIONS);
+        when(orderSectionAndQuestionsPrePopulator.prePopulate(C21_BLANK_ORDER, ISSUING_DETAILS, caseDataWithDefaults))
             .thenReturn(Map.of("sectionAndQuestions", "value"));
 
-        Map<String, Object> actual = underTest.preSelect(caseDetails);
+        Map<String, Object> actual = underTest.preSelect(caseData);
 
         assertThat(actual).isEqualTo(Map.of(
             "manageOrdersState", CLOSED,
             "manageOrdersType", C21_BLANK_ORDER,
-            "orderTempQuestions", SHOW_HIDE
+            "orderTempQuestions", SHOW_HIDE,
+            "sectionAndQuestions", "value"
         ));
     }
 }
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.fpl.service.orders.preview;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.fpl.model.common.DocumentReference;
+import uk.gov.hmcts.reform.fpl.service.orders.generator.OrderDocumentGeneratorResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.fpl.enums.docmosis.RenderFormat.PDF;
+
+class DraftOrderPreviewStoreTest {
+
+    private static final Long CASE_ID = 1L;
+    private static final String FILE_NAME = "Preview order.pdf";
+    private static final byte[] BYTES = {1, 2, 3};
+
+    private final AtomicInteger generated = new AtomicInteger();
+    private final Supplier<OrderDocumentGeneratorResult> generator = () -> {
+        generated.incrementAndGet();
+        return OrderDocumentGeneratorResult.builder().bytes(BYTES).renderFormat(PDF).build();
+    };
+
+    private final DraftOrderPreviewStore underTest = new DraftOrderPreviewStore(
+        new ObjectMapper(), Optional.of(new InMemoryDraftOrderPreviews(30, 1)), true, "http://fpl-service");
+
+    @Test
+    void shouldStorePreviewAndServeItByToken() {
+        DocumentReference preview = underTest.getOrGenerate(CASE_ID, List.of(Map.of("title", "order")), FILE_NAME,
+            generator);
+
+        assertThat(preview.getUrl()).startsWith("http://fpl-service/order-previews/");
+        assertThat(preview.getBinaryUrl()).isEqualTo(preview.getUrl());
+        assertThat(preview.getFilename()).isEqualTo(FILE_NAME);
+
+        String token = preview.getUrl().substring(preview.getUrl().lastIndexOf('/') + 1);
+
+        assertThat(underTest.get(token)).contains(new DraftOrderPreview(CASE_ID, BYTES, PDF.getMediaType(),
+            FILE_NAME));
+    }
+
+    @Test
+    void shouldNotRegeneratePreviewWhenParametersUnchanged() {
+        DocumentReference first = underTest.getOrGenerate(CASE_ID, List.of(Map.of("title", "order")), FILE_NAME,
+            generator);
+        DocumentReference second = underTest.getOrGenerate(CASE_ID, List.of(Map.of("title", "order")), FILE_NAME,
+            generator);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(generated).hasValue(1);
+    }
+
+    @Test
+    void shouldRegeneratePreviewWhenParametersChanged() {
+        DocumentReference first = underTest.getOrGenerate(CASE_ID, List.of(Map.of("title", "order")), FILE_NAME,
+            generator);
+        DocumentReference second = underTest.getOrGenerate(CASE_ID, List.of(Map.of("title", "amended order")),
+            FILE_NAME, generator);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(generated).hasValue(2);
+    }
+
+    @Test
+    void shouldRegeneratePreviewForAnotherCase() {
+        DocumentReference first = underTest.getOrGenerate(CASE_ID, List.of(Map.of("title", "order")), FILE_NAME,
+            generator);
+        DocumentReference second = underTest.getOrGenerate(2L, List.of(Map.of("title", "order")), FILE_NAME,
+            generator);
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(generated).hasValue(2);
+    }
+
+    @Test
+    void shouldNotFindUnknownPreview() {
+        assertThat(underTest.get("unknown")).isEmpty();
+    }
+
+    @Test
+    void shouldFailToStartWhenEnabledWithoutBaseUrl() {
+        Optional<DraftOrderPreviews> previews = Optional.of(new InMemoryDraftOrderPreviews(30, 1));
+
+        assertThatThrownBy(() -> new DraftOrderPreviewStore(new ObjectMapper(), previews, true, ""))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("orderPreview.store.baseUrl");
+    }
+
+    @Test
+    void shouldFailToStartWhenEnabledWithoutStoreForPreviews() {
+        assertThatThrownBy(() -> new DraftOrderPreviewStore(new ObjectMapper(), Optional.empty(), true,
+            "http://fpl-service"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldStartWhenDisabledWithoutBaseUrlOrStore() {
+        DraftOrderPreviewStore disabled = new DraftOrderPreviewStore(new ObjectMapper(), Optional.empty(), false, "");
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get("unknown")).isEmpty();
+        assertThat(disabled.purge()).isZero();
+    }
+}
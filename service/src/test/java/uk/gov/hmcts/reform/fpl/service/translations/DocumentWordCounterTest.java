@@ -1,15 +1,22 @@
 package uk.gov.hmcts.reform.fpl.service.translations;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import uk.gov.hmcts.reform.fpl.docmosis.DocmosisHelper;
 import uk.gov.hmcts.reform.fpl.service.docmosis.DocumentConversionService;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DocumentWordCounterTest {
@@ -36,6 +43,30 @@ class DocumentWordCounterTest {
         assertThat(actual).isEqualTo(expectedCount);
     }
 
+    @Test
+    void shouldCountWordsSplitBetweenPages() {
+        when(documentConversionService.convertToPdf(ORIGINAL_DOCUMENT_CONTENT, FILE_PDF))
+            .thenReturn(CONVERTED_DOCUMENT);
+        mockPages("first page", " wor", "d. More words", "", ";last", " page");
+
+        long actual = underTest.count(ORIGINAL_DOCUMENT_CONTENT, FILE_PDF);
+
+        assertThat(actual).isEqualTo(7);
+        verify(docmosisHelper, times(1)).extractPdfContent(eq(CONVERTED_DOCUMENT), any());
+    }
+
+    @Test
+    void shouldCountIdenticalDocumentOnce() {
+        mockConversionToContent("More words");
+
+        underTest.count(ORIGINAL_DOCUMENT_CONTENT, FILE_PDF);
+        long actual = underTest.count(ORIGINAL_DOCUMENT_CONTENT, FILE_PDF);
+
+        assertThat(actual).isEqualTo(2);
+        verify(documentConversionService, times(1)).convertToPdf(ORIGINAL_DOCUMENT_CONTENT, FILE_PDF);
+        verify(docmosisHelper, times(1)).extractPdfContent(eq(CONVERTED_DOCUMENT), any());
+    }
+
     private static Stream<Arguments> examples() {
         return Stream.of(
             Arguments.of("Word", 1),
@@ -56,6 +87,14 @@ class DocumentWordCounterTest {
     private void mockConversionToContent(String content) {
         when(documentConversionService.convertToPdf(ORIGINAL_DOCUMENT_CONTENT, FILE_PDF))
             .thenReturn(CONVERTED_DOCUMENT);
-        when(docmosisHelper.extractPdfContent(CONVERTED_DOCUMENT)).thenReturn(content);
+        mockPages(content);
+    }
+
+    private void mockPages(String... pagesContent) {
+        doAnswer(invocation -> {
+            Consumer<String> pageContentConsumer = invocation.getArgument(1);
+            Stream.of(pagesContent).forEach(pageContentConsumer);
+            return null;
+        }).when(docmosisHelper).extractPdfContent(eq(CONVERTED_DOCUMENT), any());
     }
 }
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.fpl.service.translations;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordCountTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "Word", "More words", "  More, words. ", "More\r\nwords\n\n", "\t,\t"})
+    void shouldCountSameWordsWhenTextIsSplitAnywhere(String text) {
+        long expected = count(text);
+
+        for (int split = 0; split <= text.length(); split++) {
+            WordCount wordCount = new WordCount();
+            wordCount.add(text.substring(0, split));
+            wordCount.add(text.substring(split));
+
+            assertThat(wordCount.getCount()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldCountWordsAddedInChunks() {
+        WordCount wordCount = new WordCount();
+        wordCount.add("first pa");
+        wordCount.add("ge;second");
+        wordCount.add(" page\n");
+
+        assertThat(wordCount.getCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotCountBlankWords() {
+        assertThat(count("\t , \t ;")).isZero();
+    }
+
+    private static long count(String text) {
+        WordCount wordCount = new WordCount();
+        wordCount.add(text);
+        return wordCount.getCount();
+    }
+}
@@ -1,17 +1,24 @@
 package uk.gov.hmcts.reform.fpl.service.validators;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.reform.fpl.enums.Event;
 import uk.gov.hmcts.reform.fpl.model.CaseData;
 import uk.gov.hmcts.reform.fpl.model.submission.EventValidationErrors;
 import uk.gov.hmcts.reform.fpl.service.FeatureToggleService;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +52,9 @@ class CaseSubmissionCheckerTest {
     @Mock
     private FeatureToggleService featureToggles;
 
+    @Spy
+    private ParallelTaskRunner parallelTaskRunner = new ParallelTaskRunner(Runnable::run);
+
     @InjectMocks
     private CaseSubmissionChecker caseSubmissionValidator;
 
@@ -67,16 +77,18 @@ class CaseSubmissionCheckerTest {
 
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(false);
 
-            when(eventsChecker.validate(any(), any())).thenReturn(List.of("Error not included"));
-            when(eventsChecker.validate(CASE_NAME, caseData)).thenReturn(caseNameErrors);
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(HEARING_URGENCY, caseData)).thenReturn(hearingNeededErrors);
-            when(eventsChecker.validate(GROUNDS, caseData)).thenReturn(groundsErrors);
-            when(eventsChecker.validate(ORGANISATION_DETAILS, caseData)).thenReturn(applicantErrors);
-            when(eventsChecker.validate(LOCAL_AUTHORITY_DETAILS, caseData)).thenReturn(localAuthorityErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
-            when(eventsChecker.validate(RESPONDENTS, caseData)).thenReturn(respondentsErrors);
-            when(eventsChecker.validate(ALLOCATION_PROPOSAL, caseData)).thenReturn(allocationProposalErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(List.of("Error not included"));
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenReturn(caseNameErrors);
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(HEARING_URGENCY), eq(caseData), any())).thenReturn(hearingNeededErrors);
+            when(eventsChecker.validate(eq(GROUNDS), eq(caseData), any())).thenReturn(groundsErrors);
+            when(eventsChecker.validate(eq(ORGANISATION_DETAILS), eq(caseData), any())).thenReturn(applicantErrors);
+            when(eventsChecker.validate(eq(LOCAL_AUTHORITY_DETAILS), eq(caseData), any()))
+                .thenReturn(localAuthorityErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+            when(eventsChecker.validate(eq(ALLOCATION_PROPOSAL), eq(caseData), any()))
+                .thenReturn(allocationProposalErrors);
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -111,16 +123,17 @@ class CaseSubmissionCheckerTest {
 
             when(caseData.getMultiCourts()).thenReturn(YES);
 
-            when(eventsChecker.validate(any(), any())).thenReturn(List.of("Error not included"));
-            when(eventsChecker.validate(CASE_NAME, caseData)).thenReturn(caseNameErrors);
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(HEARING_URGENCY, caseData)).thenReturn(hearingNeededErrors);
-            when(eventsChecker.validate(GROUNDS, caseData)).thenReturn(groundsErrors);
-            when(eventsChecker.validate(ORGANISATION_DETAILS, caseData)).thenReturn(applicantErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
-            when(eventsChecker.validate(RESPONDENTS, caseData)).thenReturn(respondentsErrors);
-            when(eventsChecker.validate(ALLOCATION_PROPOSAL, caseData)).thenReturn(allocationProposalErrors);
-            when(eventsChecker.validate(SELECT_COURT, caseData)).thenReturn(courtSelectionErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(List.of("Error not included"));
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenReturn(caseNameErrors);
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(HEARING_URGENCY), eq(caseData), any())).thenReturn(hearingNeededErrors);
+            when(eventsChecker.validate(eq(GROUNDS), eq(caseData), any())).thenReturn(groundsErrors);
+            when(eventsChecker.validate(eq(ORGANISATION_DETAILS), eq(caseData), any())).thenReturn(applicantErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+            when(eventsChecker.validate(eq(ALLOCATION_PROPOSAL), eq(caseData), any()))
+                .thenReturn(allocationProposalErrors);
+            when(eventsChecker.validate(eq(SELECT_COURT), eq(caseData), any())).thenReturn(courtSelectionErrors);
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -151,7 +164,7 @@ class CaseSubmissionCheckerTest {
 
             assertThat(isAvailable).isFalse();
 
-            verify(eventsChecker, never()).validate(eq(LOCAL_AUTHORITY_DETAILS), any());
+            verify(eventsChecker, never()).validate(eq(LOCAL_AUTHORITY_DETAILS), any(), any());
         }
 
         @Test
@@ -159,16 +172,18 @@ class CaseSubmissionCheckerTest {
 
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(true);
 
-            when(eventsChecker.validate(any(), any())).thenReturn(List.of("Error not included"));
-            when(eventsChecker.validate(CASE_NAME, caseData)).thenReturn(caseNameErrors);
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(HEARING_URGENCY, caseData)).thenReturn(hearingNeededErrors);
-            when(eventsChecker.validate(GROUNDS, caseData)).thenReturn(groundsErrors);
-            when(eventsChecker.validate(ORGANISATION_DETAILS, caseData)).thenReturn(applicantErrors);
-            when(eventsChecker.validate(LOCAL_AUTHORITY_DETAILS, caseData)).thenReturn(localAuthorityErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
-            when(eventsChecker.validate(RESPONDENTS, caseData)).thenReturn(respondentsErrors);
-            when(eventsChecker.validate(ALLOCATION_PROPOSAL, caseData)).thenReturn(allocationProposalErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(List.of("Error not included"));
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenReturn(caseNameErrors);
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(HEARING_URGENCY), eq(caseData), any())).thenReturn(hearingNeededErrors);
+            when(eventsChecker.validate(eq(GROUNDS), eq(caseData), any())).thenReturn(groundsErrors);
+            when(eventsChecker.validate(eq(ORGANISATION_DETAILS), eq(caseData), any())).thenReturn(applicantErrors);
+            when(eventsChecker.validate(eq(LOCAL_AUTHORITY_DETAILS), eq(caseData), any()))
+                .thenReturn(localAuthorityErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+            when(eventsChecker.validate(eq(ALLOCATION_PROPOSAL), eq(caseData), any()))
+                .thenReturn(allocationProposalErrors);
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -197,7 +212,7 @@ class CaseSubmissionCheckerTest {
 
             assertThat(isAvailable).isFalse();
 
-            verify(eventsChecker, never()).validate(eq(ORGANISATION_DETAILS), any());
+            verify(eventsChecker, never()).validate(eq(ORGANISATION_DETAILS), any(), any());
         }
 
         @Test
@@ -206,16 +221,18 @@ class CaseSubmissionCheckerTest {
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(true);
             when(caseData.isDischargeOfCareApplication()).thenReturn(true);
 
-            when(eventsChecker.validate(any(), any())).thenReturn(List.of("Error not included"));
-            when(eventsChecker.validate(CASE_NAME, caseData)).thenReturn(caseNameErrors);
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(HEARING_URGENCY, caseData)).thenReturn(hearingNeededErrors);
-            when(eventsChecker.validate(GROUNDS, caseData)).thenReturn(groundsErrors);
-            when(eventsChecker.validate(ORGANISATION_DETAILS, caseData)).thenReturn(applicantErrors);
-            when(eventsChecker.validate(LOCAL_AUTHORITY_DETAILS, caseData)).thenReturn(localAuthorityErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
-            when(eventsChecker.validate(RESPONDENTS, caseData)).thenReturn(respondentsErrors);
-            when(eventsChecker.validate(ALLOCATION_PROPOSAL, caseData)).thenReturn(allocationProposalErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(List.of("Error not included"));
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenReturn(caseNameErrors);
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(HEARING_URGENCY), eq(caseData), any())).thenReturn(hearingNeededErrors);
+            when(eventsChecker.validate(eq(GROUNDS), eq(caseData), any())).thenReturn(groundsErrors);
+            when(eventsChecker.validate(eq(ORGANISATION_DETAILS), eq(caseData), any())).thenReturn(applicantErrors);
+            when(eventsChecker.validate(eq(LOCAL_AUTHORITY_DETAILS), eq(caseData), any()))
+                .thenReturn(localAuthorityErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+            when(eventsChecker.validate(eq(ALLOCATION_PROPOSAL), eq(caseData), any()))
+                .thenReturn(allocationProposalErrors);
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -242,7 +259,7 @@ class CaseSubmissionCheckerTest {
 
             assertThat(isAvailable).isFalse();
 
-            verify(eventsChecker, never()).validate(eq(GROUNDS), any());
+            verify(eventsChecker, never()).validate(eq(GROUNDS), any(), any());
         }
 
         @Test
@@ -250,9 +267,9 @@ class CaseSubmissionCheckerTest {
             final List<String> ordersNeededErrors = List.of("Orders needed error 1", "Orders needed error 2");
             final List<String> childrenErrors = List.of("Children error 1");
 
-            when(eventsChecker.validate(any(), any())).thenReturn(emptyList());
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(emptyList());
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -272,9 +289,9 @@ class CaseSubmissionCheckerTest {
             final List<String> ordersNeededErrors = List.of("Orders needed error", "Orders needed error");
             final List<String> childrenErrors = List.of("Children error", "Children error", "Children error");
 
-            when(eventsChecker.validate(any(), any())).thenReturn(emptyList());
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(emptyList());
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -290,7 +307,7 @@ class CaseSubmissionCheckerTest {
 
         @Test
         void shouldReportEmptyGroupedErrorsWhenNoErrorsForRelevantEvents() {
-            when(eventsChecker.validate(any(), any())).thenReturn(emptyList());
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(emptyList());
 
             final List<String> errors = caseSubmissionValidator.validate(caseData);
             final boolean isAvailable = caseSubmissionValidator.isAvailable(caseData);
@@ -307,16 +324,18 @@ class CaseSubmissionCheckerTest {
         void shouldValidateLocalAuthorityInsteadOfLegacyApplicantWhenAdditionalContactFeatureIsToggledOn() {
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(true);
 
-            when(eventsChecker.validate(any(), any())).thenReturn(List.of("Error not included"));
-            when(eventsChecker.validate(CASE_NAME, caseData)).thenReturn(caseNameErrors);
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(HEARING_URGENCY, caseData)).thenReturn(hearingNeededErrors);
-            when(eventsChecker.validate(GROUNDS, caseData)).thenReturn(groundsErrors);
-            when(eventsChecker.validate(ORGANISATION_DETAILS, caseData)).thenReturn(applicantErrors);
-            when(eventsChecker.validate(LOCAL_AUTHORITY_DETAILS, caseData)).thenReturn(localAuthorityErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
-            when(eventsChecker.validate(RESPONDENTS, caseData)).thenReturn(respondentsErrors);
-            when(eventsChecker.validate(ALLOCATION_PROPOSAL, caseData)).thenReturn(allocationProposalErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(List.of("Error not included"));
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenReturn(caseNameErrors);
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(HEARING_URGENCY), eq(caseData), any())).thenReturn(hearingNeededErrors);
+            when(eventsChecker.validate(eq(GROUNDS), eq(caseData), any())).thenReturn(groundsErrors);
+            when(eventsChecker.validate(eq(ORGANISATION_DETAILS), eq(caseData), any())).thenReturn(applicantErrors);
+            when(eventsChecker.validate(eq(LOCAL_AUTHORITY_DETAILS), eq(caseData), any()))
+                .thenReturn(localAuthorityErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+            when(eventsChecker.validate(eq(ALLOCATION_PROPOSAL), eq(caseData), any()))
+                .thenReturn(allocationProposalErrors);
 
             final List<EventValidationErrors> errors = caseSubmissionValidator.validateAsGroups(caseData);
 
@@ -331,23 +350,25 @@ class CaseSubmissionCheckerTest {
                 eventValidationErrors(ALLOCATION_PROPOSAL, allocationProposalErrors)
             );
 
-            verify(eventsChecker, never()).validate(eq(ORGANISATION_DETAILS), any());
+            verify(eventsChecker, never()).validate(eq(ORGANISATION_DETAILS), any(), any());
         }
 
         @Test
         void shouldValidateLegacyApplicantInsteadOfLocalAuthorityWhenAdditionalContactFeatureIsToggledOff() {
             when(featureToggles.isApplicantAdditionalContactsEnabled()).thenReturn(false);
 
-            when(eventsChecker.validate(any(), any())).thenReturn(List.of("Error not included"));
-            when(eventsChecker.validate(CASE_NAME, caseData)).thenReturn(caseNameErrors);
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(HEARING_URGENCY, caseData)).thenReturn(hearingNeededErrors);
-            when(eventsChecker.validate(GROUNDS, caseData)).thenReturn(groundsErrors);
-            when(eventsChecker.validate(ORGANISATION_DETAILS, caseData)).thenReturn(applicantErrors);
-            when(eventsChecker.validate(LOCAL_AUTHORITY_DETAILS, caseData)).thenReturn(localAuthorityErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
-            when(eventsChecker.validate(RESPONDENTS, caseData)).thenReturn(respondentsErrors);
-            when(eventsChecker.validate(ALLOCATION_PROPOSAL, caseData)).thenReturn(allocationProposalErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(List.of("Error not included"));
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenReturn(caseNameErrors);
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(HEARING_URGENCY), eq(caseData), any())).thenReturn(hearingNeededErrors);
+            when(eventsChecker.validate(eq(GROUNDS), eq(caseData), any())).thenReturn(groundsErrors);
+            when(eventsChecker.validate(eq(ORGANISATION_DETAILS), eq(caseData), any())).thenReturn(applicantErrors);
+            when(eventsChecker.validate(eq(LOCAL_AUTHORITY_DETAILS), eq(caseData), any()))
+                .thenReturn(localAuthorityErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+            when(eventsChecker.validate(eq(ALLOCATION_PROPOSAL), eq(caseData), any()))
+                .thenReturn(allocationProposalErrors);
 
             final List<EventValidationErrors> errors = caseSubmissionValidator.validateAsGroups(caseData);
 
@@ -362,14 +383,14 @@ class CaseSubmissionCheckerTest {
                 eventValidationErrors(ALLOCATION_PROPOSAL, allocationProposalErrors)
             );
 
-            verify(eventsChecker, never()).validate(eq(APPLICATION_DOCUMENTS), any());
+            verify(eventsChecker, never()).validate(eq(APPLICATION_DOCUMENTS), any(), any());
         }
 
         @Test
         void shouldReportGroupedErrorsOnlyForRelevantEventsWithErrors() {
-            when(eventsChecker.validate(any(), any())).thenReturn(emptyList());
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(emptyList());
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
 
             final List<EventValidationErrors> errors = caseSubmissionValidator.validateAsGroups(caseData);
 
@@ -384,9 +405,9 @@ class CaseSubmissionCheckerTest {
             final List<String> ordersNeededErrors = List.of("Orders needed error", "Orders needed error");
             final List<String> childrenErrors = List.of("Children error 1", "Children error 1", "Children error 2");
 
-            when(eventsChecker.validate(any(), any())).thenReturn(emptyList());
-            when(eventsChecker.validate(ORDERS_SOUGHT, caseData)).thenReturn(ordersNeededErrors);
-            when(eventsChecker.validate(CHILDREN, caseData)).thenReturn(childrenErrors);
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(emptyList());
+            when(eventsChecker.validate(eq(ORDERS_SOUGHT), eq(caseData), any())).thenReturn(ordersNeededErrors);
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
 
             final List<EventValidationErrors> errors = caseSubmissionValidator.validateAsGroups(caseData);
 
@@ -396,6 +417,43 @@ class CaseSubmissionCheckerTest {
         }
     }
 
+    @Nested
+    class ParallelValidation {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(caseSubmissionValidator, "parallelTaskRunner",
+                new ParallelTaskRunner(executor));
+            ReflectionTestUtils.setField(caseSubmissionValidator, "validationConcurrency", 4);
+        }
+
+        @AfterEach
+        void tearDown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        void shouldReportGroupedErrorsInOrderOfEventsWhenValidatedInParallel() {
+            when(eventsChecker.validate(any(), any(), any())).thenReturn(emptyList());
+            when(eventsChecker.validate(eq(CASE_NAME), eq(caseData), any())).thenAnswer(invocation -> {
+                Thread.sleep(100);
+                return caseNameErrors;
+            });
+            when(eventsChecker.validate(eq(CHILDREN), eq(caseData), any())).thenReturn(childrenErrors);
+            when(eventsChecker.validate(eq(RESPONDENTS), eq(caseData), any())).thenReturn(respondentsErrors);
+
+            final List<EventValidationErrors> errors = caseSubmissionValidator.validateAsGroups(caseData);
+
+            assertThat(errors).containsExactly(
+                eventValidationErrors(CASE_NAME, caseNameErrors),
+                eventValidationErrors(CHILDREN, childrenErrors),
+                eventValidationErrors(RESPONDENTS, respondentsErrors)
+            );
+        }
+    }
+
     private static EventValidationErrors eventValidationErrors(Event event, List<String> errors) {
         return EventValidationErrors.builder()
             .event(event)
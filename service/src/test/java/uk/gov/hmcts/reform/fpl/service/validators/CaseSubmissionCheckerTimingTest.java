@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.fpl.service.validators;
+
+import com.google.common.base.Stopwatch;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.Child;
+import uk.gov.hmcts.reform.fpl.model.ChildParty;
+import uk.gov.hmcts.reform.fpl.model.Respondent;
+import uk.gov.hmcts.reform.fpl.model.RespondentParty;
+import uk.gov.hmcts.reform.fpl.model.submission.EventValidationErrors;
+import uk.gov.hmcts.reform.fpl.service.FeatureToggleService;
+import uk.gov.hmcts.reform.fpl.service.UserService;
+import uk.gov.hmcts.reform.fpl.service.respondent.RespondentAfterSubmissionValidator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.VALIDATION_EXECUTOR;
+import static uk.gov.hmcts.reform.fpl.utils.ElementUtils.element;
+
+/**
+ * Compares sequential and parallel validation of a large case with the real checkers and validator. Run with
+ * ./gradlew timingTest, it is left out of the unit tests because its result depends on the machine.
+ */
+@Slf4j
+@Tag("timing")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {
+    EventsChecker.class, CaseSubmissionChecker.class, LocalValidatorFactoryBean.class,
+    CaseNameChecker.class, OrdersSoughtChecker.class, HearingUrgencyChecker.class, GroundsChecker.class,
+    OrganisationDetailsChecker.class, LocalAuthorityDetailsChecker.class, ChildrenChecker.class,
+    RespondentsChecker.class, RespondentAfterSubmissionValidator.class, AllocationProposalChecker.class,
+    CourtSelectionChecker.class, CaseSubmissionCheckerTimingTest.ValidationExecutorConfiguration.class
+})
+class CaseSubmissionCheckerTimingTest {
+
+    private static final int CHILDREN = 1000;
+    private static final int RESPONDENTS = 1000;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    @MockBean
+    private FeatureToggleService featureToggles;
+    @MockBean
+    private UserService userService;
+    @MockBean
+    private RiskAndHarmChecker riskAndHarmChecker;
+    @MockBean
+    private ProceedingsChecker proceedingsChecker;
+    @MockBean
+    private InternationalElementChecker internationalElementChecker;
+    @MockBean
+    private OthersChecker othersChecker;
+    @MockBean
+    private CourtServiceChecker courtServiceChecker;
+    @MockBean
+    private FactorsAffectingParentingChecker factorsAffectingParentingChecker;
+    @MockBean
+    private ApplicationDocumentChecker applicationDocumentChecker;
+    @MockBean
+    private LanguageRequirementsChecker languageRequirementsChecker;
+
+    @Autowired
+    private CaseSubmissionChecker underTest;
+
+    @Autowired
+    @Qualifier(VALIDATION_EXECUTOR)
+    private Executor validationExecutor;
+
+    // every other party misses details, so that the checks report errors as well as pass
+    private final CaseData caseData = CaseData.builder()
+        .caseName("Timing case")
+        .children1(IntStream.range(0, CHILDREN)
+            .mapToObj(i -> element(Child.builder()
+                .party(ChildParty.builder()
+                    .firstName("Child " + i)
+                    .lastName("Smith")
+                    .dateOfBirth(i % 2 == 0 ? LocalDate.of(2015, 1, 1) : null)
+                    .gender("Girl")
+                    .build())
+                .build()))
+            .collect(toList()))
+        .respondents1(IntStream.range(0, RESPONDENTS)
+            .mapToObj(i -> element(Respondent.builder()
+                .party(RespondentParty.builder()
+                    .firstName("Respondent " + i)
+                    .lastName("Smith")
+                    .relationshipToChild(i % 2 == 0 ? "Parent" : null)
+                    .build())
+                .legalRepresentation(i % 2 == 0 ? "No" : null)
+                .build()))
+            .collect(toList()))
+        .build();
+
+    @Test
+    void shouldValidateLargeCaseFasterInParallel() {
+        assumeTrue(Runtime.getRuntime().availableProcessors() > 1, "Needs more than one processor");
+
+        long sequential = measure(Runnable::run);
+        long parallel = measure(validationExecutor);
+
+        log.info("Validated case with {} children and {} respondents in {} ms sequentially and {} ms in parallel",
+            CHILDREN, RESPONDENTS, sequential, parallel);
+
+        assertThat(parallel).isLessThan(sequential);
+    }
+
+    @Test
+    void shouldReportSameErrorsInParallelAsSequentially() {
+        underTest.setValidationExecutor(Runnable::run);
+        List<EventValidationErrors> sequential = underTest.validateAsGroups(caseData);
+
+        underTest.setValidationExecutor(validationExecutor);
+        List<EventValidationErrors> parallel = underTest.validateAsGroups(caseData);
+
+        assertThat(parallel).isNotEmpty().isEqualTo(sequential);
+    }
+
+    private long measure(Executor executor) {
+        underTest.setValidationExecutor(executor);
+
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            underTest.validateAsGroups(caseData);
+        }
+
+        List<Long> timings = new ArrayList<>();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            underTest.validateAsGroups(caseData);
+            timings.add(stopwatch.elapsed(MILLISECONDS));
+        }
+
+        return timings.stream().sorted().collect(toList()).get(MEASURED_RUNS / 2);
+    }
+
+    @TestConfiguration
+    static class ValidationExecutorConfiguration {
+        @Bean(VALIDATION_EXECUTOR)
+        ThreadPoolTaskExecutor validationExecutor() {
+            int processors = Runtime.getRuntime().availableProcessors();
+
+            ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+            taskExecutor.setCorePoolSize(processors);
+            taskExecutor.setMaxPoolSize(processors);
+            taskExecutor.setQueueCapacity(0);
+            return taskExecutor;
+        }
+    }
+}
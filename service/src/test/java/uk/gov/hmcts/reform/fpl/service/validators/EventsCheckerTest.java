@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.fpl.service.validators;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,9 +20,12 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -106,6 +110,42 @@ class EventsCheckerTest {
         verify(validator).validate(caseData);
     }
 
+    @Test
+    void shouldValidateEventOnceForSameValidationResults() {
+        final CaseData caseData = CaseData.builder().build();
+        final ValidationResults results = new ValidationResults(caseData);
+        final List<String> expectedErrors = List.of("Children error");
+
+        when(childrenChecker.validate(caseData)).thenReturn(expectedErrors);
+
+        assertThat(eventsChecker.validate(CHILDREN, caseData, results)).isEqualTo(expectedErrors);
+        assertThat(eventsChecker.validate(CHILDREN, caseData, results)).isEqualTo(expectedErrors);
+
+        verify(childrenChecker).validate(caseData);
+    }
+
+    @Test
+    void shouldValidateEventAgainWithoutSharedValidationResults() {
+        final CaseData caseData = CaseData.builder().caseName("Test").build();
+
+        when(childrenChecker.validate(caseData)).thenReturn(List.of("Children error"), List.of());
+
+        assertThat(eventsChecker.validate(CHILDREN, caseData)).containsExactly("Children error");
+        assertThat(eventsChecker.validate(CHILDREN, caseData)).isEmpty();
+
+        verify(childrenChecker, times(2)).validate(caseData);
+    }
+
+    @Test
+    void shouldNotUseValidationResultsOfAnotherCaseData() {
+        final CaseData caseData = CaseData.builder().caseName("Test").build();
+        final CaseData updatedCaseData = caseData.toBuilder().caseName("Updated test").build();
+        final ValidationResults results = new ValidationResults(caseData);
+
+        assertThatThrownBy(() -> eventsChecker.validate(CHILDREN, updatedCaseData, results))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @ParameterizedTest
     @MethodSource("getEventsValidators")
     void shouldCheckEventIsCompletedEvent(Event event, EventChecker validator) {
@@ -115,9 +155,25 @@ class EventsCheckerTest {
 
         assertThat(eventsChecker.isCompleted(event, caseData)).isEqualTo(isCompleted);
 
+        verify(validator).isCompletedWhenValid();
         verify(validator).isCompleted(caseData);
     }
 
+    @ParameterizedTest
+    @MethodSource("getEventsValidators")
+    void shouldCheckEventIsCompletedFromValidationErrorsWhenCompletedWhenValid(Event event, EventChecker validator) {
+        final ValidationResults results = new ValidationResults(caseData);
+
+        when(validator.isCompletedWhenValid()).thenReturn(true);
+        when(validator.validate(caseData)).thenReturn(List.of("Error"));
+
+        assertThat(eventsChecker.isCompleted(event, caseData, results)).isFalse();
+        assertThat(eventsChecker.validate(event, caseData, results)).containsExactly("Error");
+
+        verify(validator).isCompletedWhenValid();
+        verify(validator).validate(caseData);
+    }
+
     @ParameterizedTest
     @MethodSource("getEventsValidators")
     void shouldCheckEventIsInProgress(Event event, EventChecker validator) {
@@ -135,14 +191,26 @@ class EventsCheckerTest {
     void shouldCheckEventIsAvailableAndShouldNotValidateAgainstDocumentsChecker(Event event, EventChecker validator) {
         final boolean isAvailable = RandomUtils.nextBoolean();
 
-        when(validator.isAvailable(caseData)).thenReturn(isAvailable);
+        when(validator.isAvailable(eq(caseData), any(ValidationResults.class))).thenReturn(isAvailable);
 
         assertThat(eventsChecker.isAvailable(event, caseData)).isEqualTo(isAvailable);
 
-        verify(validator).isAvailable(caseData);
+        verify(validator).isAvailable(eq(caseData), any(ValidationResults.class));
         verify(documentsChecker, never()).validate(any());
     }
 
+    @ParameterizedTest
+    @MethodSource("getEventCheckerClasses")
+    void shouldBeCompletedWhenValidOnlyWhenUsingDefaultCompletion(Class<? extends EventChecker> checkerClass)
+        throws NoSuchMethodException {
+        final boolean defaultCompletion = checkerClass.getMethod("isCompleted", CaseData.class)
+            .getDeclaringClass() == EventChecker.class;
+        final boolean completedWhenValid = checkerClass.getMethod("isCompletedWhenValid")
+            .getDeclaringClass() != EventChecker.class;
+
+        assertThat(completedWhenValid).isEqualTo(defaultCompletion);
+    }
+
     @AfterEach
     void verifyNoMoreInteractionsWithValidators() {
         verifyNoMoreInteractions(
@@ -190,4 +258,26 @@ class EventsCheckerTest {
             Arguments.of(SELECT_COURT, courtSelectionChecker));
     }
 
+    private Stream<Class<? extends EventChecker>> getEventCheckerClasses() {
+        return Stream.of(
+            CaseNameChecker.class,
+            ChildrenChecker.class,
+            RespondentsChecker.class,
+            HearingUrgencyChecker.class,
+            OrdersSoughtChecker.class,
+            GroundsChecker.class,
+            OrganisationDetailsChecker.class,
+            LocalAuthorityDetailsChecker.class,
+            AllocationProposalChecker.class,
+            ApplicationDocumentChecker.class,
+            CaseSubmissionChecker.class,
+            RiskAndHarmChecker.class,
+            ProceedingsChecker.class,
+            InternationalElementChecker.class,
+            OthersChecker.class,
+            CourtServiceChecker.class,
+            FactorsAffectingParentingChecker.class,
+            LanguageRequirementsChecker.class,
+            CourtSelectionChecker.class);
+    }
 }
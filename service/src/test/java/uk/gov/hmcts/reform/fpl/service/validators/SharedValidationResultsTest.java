@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.fpl.service.validators;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.submission.EventValidationErrors;
+import uk.gov.hmcts.reform.fpl.service.FeatureToggleService;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.fpl.config.AsyncConfiguration.VALIDATION_EXECUTOR;
+import static uk.gov.hmcts.reform.fpl.enums.Event.CASE_NAME;
+import static uk.gov.hmcts.reform.fpl.enums.Event.CHILDREN;
+import static uk.gov.hmcts.reform.fpl.enums.Event.SUBMIT_APPLICATION;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {EventsChecker.class, CaseSubmissionChecker.class,
+    SharedValidationResultsTest.ValidationExecutorConfiguration.class})
+class SharedValidationResultsTest {
+
+    private static final List<String> CHILDREN_ERRORS = List.of("Add the child's details");
+
+    @MockBean
+    private FeatureToggleService featureToggles;
+    @MockBean
+    private CaseNameChecker caseNameChecker;
+    @MockBean
+    private ChildrenChecker childrenChecker;
+    @MockBean
+    private RespondentsChecker respondentsChecker;
+    @MockBean
+    private HearingUrgencyChecker hearingUrgencyChecker;
+    @MockBean
+    private OrdersSoughtChecker ordersSoughtChecker;
+    @MockBean
+    private GroundsChecker groundsChecker;
+    @MockBean
+    private OrganisationDetailsChecker organisationDetailsChecker;
+    @MockBean
+    private LocalAuthorityDetailsChecker localAuthorityDetailsChecker;
+    @MockBean
+    private AllocationProposalChecker allocationProposalChecker;
+    @MockBean
+    private RiskAndHarmChecker riskAndHarmChecker;
+    @MockBean
+    private ProceedingsChecker proceedingsChecker;
+    @MockBean
+    private InternationalElementChecker internationalElementChecker;
+    @MockBean
+    private OthersChecker othersChecker;
+    @MockBean
+    private CourtServiceChecker courtServiceChecker;
+    @MockBean
+    private FactorsAffectingParentingChecker factorsAffectingParentingChecker;
+    @MockBean
+    private ApplicationDocumentChecker applicationDocumentChecker;
+    @MockBean
+    private LanguageRequirementsChecker languageRequirementsChecker;
+    @MockBean
+    private CourtSelectionChecker courtSelectionChecker;
+
+    @Autowired
+    private EventsChecker eventsChecker;
+
+    @Autowired
+    private CaseSubmissionChecker caseSubmissionChecker;
+
+    private final CaseData caseData = CaseData.builder().build();
+
+    @Test
+    void shouldValidateEachSectionOnceForTaskListAndSubmissionErrors() {
+        final ValidationResults results = new ValidationResults(caseData);
+
+        when(caseNameChecker.isCompletedWhenValid()).thenReturn(true);
+        when(childrenChecker.isCompletedWhenValid()).thenReturn(true);
+        when(childrenChecker.validate(caseData)).thenReturn(CHILDREN_ERRORS);
+
+        assertThat(eventsChecker.isCompleted(CASE_NAME, caseData, results)).isTrue();
+        assertThat(eventsChecker.isCompleted(CHILDREN, caseData, results)).isFalse();
+        assertThat(eventsChecker.isAvailable(SUBMIT_APPLICATION, caseData, results)).isFalse();
+
+        final List<EventValidationErrors> errors = caseSubmissionChecker.validateAsGroups(caseData, results);
+
+        assertThat(errors).containsExactly(EventValidationErrors.builder()
+            .event(CHILDREN)
+            .errors(CHILDREN_ERRORS)
+            .build());
+
+        verify(caseNameChecker).validate(caseData);
+        verify(childrenChecker).validate(caseData);
+        verify(respondentsChecker).validate(caseData);
+        verify(hearingUrgencyChecker).validate(caseData);
+        verify(ordersSoughtChecker).validate(caseData);
+        verify(groundsChecker).validate(caseData);
+        verify(organisationDetailsChecker).validate(caseData);
+        verify(allocationProposalChecker).validate(caseData);
+    }
+
+    @TestConfiguration
+    static class ValidationExecutorConfiguration {
+
+        @Bean(name = VALIDATION_EXECUTOR)
+        Executor validationExecutor() {
+            return Runnable::run;
+        }
+    }
+}
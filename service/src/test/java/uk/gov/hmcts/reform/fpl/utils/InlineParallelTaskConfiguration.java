@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.fpl.utils;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.fpl.service.ParallelTaskRunner;
+
+@Configuration
+public class InlineParallelTaskConfiguration {
+
+    @Bean
+    public ParallelTaskRunner parallelTaskRunner() {
+        return new ParallelTaskRunner(Runnable::run);
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.fpl.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import uk.gov.hmcts.reform.fpl.model.CaseData;
+import uk.gov.hmcts.reform.fpl.model.Child;
+import uk.gov.hmcts.reform.fpl.model.HearingBooking;
+import uk.gov.hmcts.reform.fpl.model.Respondent;
+import uk.gov.hmcts.reform.fpl.validation.groups.EPOGroup;
+import uk.gov.hmcts.reform.fpl.validation.groups.HearingBookingDetailsGroup;
+import uk.gov.hmcts.reform.fpl.validation.groups.epoordergroup.EPOAddressGroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {ValidatorWarmUp.class, LocalValidatorFactoryBean.class})
+class ValidatorWarmUpTest {
+
+    @Autowired
+    private ValidatorWarmUp underTest;
+
+    @Test
+    void shouldBuildMetadataOfCaseModels() {
+        assertThat(underTest.buildMetadata())
+            .contains(CaseData.class, HearingBooking.class, Respondent.class, Child.class)
+            .allMatch(type -> type.getName().startsWith("uk.gov.hmcts.reform.fpl"));
+    }
+
+    @Test
+    void shouldFindValidationGroups() {
+        assertThat(underTest.findGroups())
+            .contains(EPOGroup.class, EPOAddressGroup.class, HearingBookingDetailsGroup.class)
+            .allMatch(Class::isInterface);
+    }
+
+    @Test
+    void shouldWarmUpWithoutFailing() {
+        assertThatCode(() -> underTest.run(new DefaultApplicationArguments())).doesNotThrowAnyException();
+    }
+}